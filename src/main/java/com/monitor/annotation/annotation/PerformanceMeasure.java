@@ -15,4 +15,16 @@ import java.lang.annotation.Target;
 public @interface PerformanceMeasure {
 
     String value() default "";  // 측정하고자 하는 메서드에 대한 설명
+
+    /**
+     * Collects deep thread metrics (stack trace, thread info, CPU time) for 1 in N calls.
+     * Execution time is recorded for every call. 1 samples every call.
+     */
+    int sampleRate() default 1;
+
+    /**
+     * Adaptive sampling target: maximum share of the method's execution time, in percent,
+     * that may be spent collecting deep thread metrics. Overrides sampleRate when positive.
+     */
+    double maxOverheadPercent() default 0;
 }
\ No newline at end of file
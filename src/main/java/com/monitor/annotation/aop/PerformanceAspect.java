@@ -8,8 +8,13 @@ package com.monitor.annotation.aop;
 import com.monitor.annotation.annotation.PerformanceMeasure;
 import com.monitor.annotation.dto.PerformanceData;
 import com.monitor.annotation.dto.ThreadMetrics;
+import com.monitor.annotation.metrics.InvocationSampler;
+import com.monitor.annotation.metrics.ThreadAllocation;
 import com.monitor.annotation.service.PerformanceMonitorService;
 import com.monitor.annotation.service.ThreadMonitorService;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -21,9 +26,19 @@ import org.springframework.stereotype.Component;
  * Aspect class for measuring and monitoring method performance.
  * This aspect intercepts methods annotated with @PerformanceMeasure and collects various metrics:
  * - Execution time
- * - Memory usage
+ * - Heap bytes allocated by the call
  * - Thread metrics
  *
+ * Execution time is recorded for every call, while thread metrics are collected only for the
+ * calls chosen by the method's sampling policy (see {@link PerformanceMeasure#sampleRate()} and
+ * {@link PerformanceMeasure#maxOverheadPercent()}).
+ *
+ * Allocation is read from the calling thread's allocation counter, which is unaffected by
+ * other threads and by garbage collection, unlike the used heap size. For sampled calls, the
+ * bytes allocated by child threads created during the call, and by tasks it handed to executors
+ * (see {@link com.monitor.annotation.thread.InvocationContext}), are added. The CPU and wall
+ * time of those tasks are kept in the call's thread metrics.
+ *
  * The collected data is stored through PerformanceMonitorService for analysis.
  *
  * @author Seo-Jangwon
@@ -36,14 +51,15 @@ public class PerformanceAspect {
 
     private final PerformanceMonitorService monitorService;
     private final ThreadMonitorService threadMonitorService;
-
+    private final Map<Method, InvocationSampler> samplers = new ConcurrentHashMap<>();
 
     /**
      * Measures performance metrics for methods annotated with @PerformanceMeasure.
      * Collects the following metrics:
      * - Method execution time in milliseconds
-     * - Memory usage before and after method execution
-     * - Thread metrics during method execution
+     * - Heap bytes allocated by the calling thread (and, for sampled calls, its child threads and
+     *   async tasks)
+     * - Thread metrics during method execution (sampled calls only)
      *
      * @param joinPoint The join point representing the intercepted method
      * @param performanceMeasure The annotation instance containing measurement configuration
@@ -58,26 +74,45 @@ public class PerformanceAspect {
         String className = signature.getDeclaringType().getSimpleName();
         String methodName = signature.getName();
 
-        // Start monitoring the method thread
-        ThreadMetrics threadMetrics = threadMonitorService.startMethodMonitoring(className, methodName);
+        InvocationSampler sampler = getSampler(signature.getMethod(), performanceMeasure);
+        long reservation = sampler.reserveSample();
+        boolean sampled = reservation >= 0;
 
-        // Measure start time and memory
+        // Start monitoring this invocation (context is private to this call)
+        long monitoringStart = System.nanoTime();
+        ThreadMetrics threadMetrics = sampled
+            ? threadMonitorService.beginInvocation(className, methodName) : null;
+
+        // Measure start time and allocation
         long startTime = System.nanoTime();
-        long startMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+        long startAllocated = ThreadAllocation.currentThread();
 
+        boolean error = true;
         try {
             // Start method
-            return joinPoint.proceed();
+            Object result = joinPoint.proceed();
+            error = false;
+            return result;
         } finally {
 
-            // Measure end time and memory
-            long executionTime = (System.nanoTime() - startTime) / 1_000_000;
-            long endMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-            long memoryUsed = (endMemory - startMemory) / 1024;
+            // Measure end time and allocation
+            long endTime = System.nanoTime();
+            long executionTime = (endTime - startTime) / 1_000_000;
+            long allocatedBytes = startAllocated != -1
+                ? ThreadAllocation.currentThread() - startAllocated : -1;
 
-            // Collect final thread metrics
-            threadMonitorService.updateMethodMetrics(className, methodName);
-            ThreadMetrics finalMetrics = threadMonitorService.getMethodMetrics(className, methodName);
+            // Collect final thread metrics and end monitoring
+            ThreadMetrics finalMetrics = null;
+            if (sampled) {
+                finalMetrics = threadMonitorService.endInvocation(threadMetrics);
+                if (allocatedBytes != -1) {
+                    allocatedBytes += threadMonitorService.childAllocatedBytes(finalMetrics)
+                        + finalMetrics.getAsyncAllocatedBytes();
+                }
+                sampler.recordSampleCost(reservation,
+                    (startTime - monitoringStart) + (System.nanoTime() - endTime));
+            }
+            sampler.recordExecution(endTime - startTime);
 
             // Save performance data
             PerformanceData performanceData = PerformanceData.of(
@@ -85,14 +120,21 @@ public class PerformanceAspect {
                 methodName,
                 performanceMeasure.value(),
                 executionTime,
-                memoryUsed,
-                finalMetrics
+                allocatedBytes,
+                finalMetrics,
+                error
             );
 
             monitorService.addPerformanceData(performanceData);
+        }
+    }
 
-            // End monitoring
-            threadMonitorService.stopMethodMonitoring(className, methodName);
+    private InvocationSampler getSampler(Method method, PerformanceMeasure performanceMeasure) {
+        InvocationSampler sampler = samplers.get(method);
+        if (sampler == null) {
+            sampler = samplers.computeIfAbsent(method, m -> new InvocationSampler(
+                performanceMeasure.sampleRate(), performanceMeasure.maxOverheadPercent()));
         }
+        return sampler;
     }
 }
\ No newline at end of file
@@ -12,6 +12,13 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+/**
+ * Async request configuration. The executor below also writes the items of reactive return
+ * values (such as the Flux metrics stream); each write is a short task rather than a thread
+ * per stream, so the queue is sized for many concurrent streams. Like the executors of
+ * {@link ThreadPoolConfig}, it is initialized by the container, after its tasks are set up for
+ * timing by the {@link ExecutorMonitoringPostProcessor}.
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig implements WebMvcConfigurer {
@@ -27,9 +34,8 @@ public class AsyncConfig implements WebMvcConfigurer {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(25);
+        executor.setQueueCapacity(10_000);
         executor.setThreadNamePrefix("MetricsSSE-");
-        executor.initialize();
         return executor;
     }
 }
\ No newline at end of file
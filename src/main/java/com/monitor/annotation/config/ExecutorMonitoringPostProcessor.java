@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.config;
+
+import com.monitor.annotation.service.ExecutorMonitorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Finds the executors in the application context and registers each with the
+ * {@link ExecutorMonitorService} under its bean name:
+ * - ThreadPoolTaskExecutor: instrumented for task timing before the container initializes it;
+ *   one its bean method already initialized is only monitored, like a plain pool
+ * - ThreadPoolTaskScheduler and ThreadPoolExecutor: pool state and rejections
+ * - ForkJoinPool: pool state
+ *
+ * Other executors have no pool to report and are left alone.
+ */
+@Component
+public class ExecutorMonitoringPostProcessor implements BeanPostProcessor {
+
+    // Looked up on first use: post-processors are created before the other beans, and a bean
+    // created that early would miss post-processing itself
+    private final ObjectProvider<ExecutorMonitorService> executorMonitorService;
+
+    public ExecutorMonitoringPostProcessor(
+        ObjectProvider<ExecutorMonitorService> executorMonitorService) {
+        this.executorMonitorService = executorMonitorService;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof ThreadPoolTaskExecutor executor && !isInitialized(executor)) {
+            executorMonitorService.getObject().instrument(beanName, executor);
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ThreadPoolTaskExecutor executor) {
+            ExecutorMonitorService monitor = executorMonitorService.getObject();
+            if (!monitor.isMonitored(beanName)) {
+                monitor.monitor(beanName, executor.getThreadPoolExecutor());
+            }
+        } else if (bean instanceof ThreadPoolTaskScheduler scheduler) {
+            executorMonitorService.getObject()
+                .monitor(beanName, scheduler.getScheduledThreadPoolExecutor());
+        } else if (bean instanceof ThreadPoolExecutor pool) {
+            executorMonitorService.getObject().monitor(beanName, pool);
+        } else if (bean instanceof ForkJoinPool pool) {
+            executorMonitorService.getObject().monitor(beanName, pool);
+        }
+        return bean;
+    }
+
+    private static boolean isInitialized(ThreadPoolTaskExecutor executor) {
+        try {
+            executor.getThreadPoolExecutor();
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+}
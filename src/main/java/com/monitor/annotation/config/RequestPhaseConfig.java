@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.config;
+
+import com.monitor.annotation.service.PerformanceMonitorService;
+import com.monitor.annotation.web.RequestPhaseInterceptor;
+import com.monitor.annotation.web.RequestPhaseValve;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration of the per-request phase breakdown of monitored endpoints:
+ * - {@link RequestPhaseValve} as the first valve of the Tomcat engine
+ * - {@link RequestPhaseInterceptor} around the handlers
+ * - {@link com.monitor.annotation.web.RequestPhaseBodyAdvice} around body conversion
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RequestPhaseConfig implements WebMvcConfigurer {
+
+    private final PerformanceMonitorService performanceMonitorService;
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> requestPhaseValveCustomizer() {
+        return factory -> factory.addEngineValves(new RequestPhaseValve(performanceMonitorService));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestPhaseInterceptor());
+    }
+}
@@ -5,38 +5,77 @@
 
 package com.monitor.annotation.config;
 
+import com.monitor.annotation.load.LoadTestConnectionManager;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * Configuration class for RestTemplate setup.
- * Configures RestTemplate with specific timeout settings and connection pool parameters.
+ * Configures RestTemplate with specific timeout settings and a dedicated keep-alive
+ * connection pool for load test traffic.
  *
  * Settings:
  * - Connect timeout: 5000ms
  * - Read timeout: 5000ms
- * - Max concurrent connections: 200
+ * - Max connections: performance.load.http.max-total (default 1000)
+ * - Max connections per route: performance.load.http.max-per-route (default 200)
+ * - Idle connection eviction: performance.load.http.idle-eviction-seconds (default 30)
+ * - TCP_NODELAY: performance.load.http.tcp-no-delay (default true)
  */
 @Configuration
 public class RestTemplateConfig {
 
+    private static final Timeout TIMEOUT = Timeout.ofMilliseconds(5000);
+
     /**
-     * Creates and configures a RestTemplate bean with custom timeout and connection settings.
+     * Creates the connection pool dedicated to load test traffic.
      *
-     * @return Configured RestTemplate instance
+     * @return Connection manager closed on shutdown
      */
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-
-        factory.setConnectTimeout(5000);
-        factory.setReadTimeout(5000);
+    public LoadTestConnectionManager loadTestConnectionManager(
+        @Value("${performance.load.http.max-total:1000}") int maxTotal,
+        @Value("${performance.load.http.max-per-route:200}") int maxPerRoute,
+        @Value("${performance.load.http.tcp-no-delay:true}") boolean tcpNoDelay,
+        @Value("${performance.load.http.idle-eviction-seconds:30}") long idleEvictionSeconds) {
+        return new LoadTestConnectionManager(maxTotal, maxPerRoute, tcpNoDelay, TIMEOUT,
+            TimeValue.ofSeconds(idleEvictionSeconds));
+    }
 
-        System.setProperty("http.keepAlive", "true");
-        System.setProperty("http.maxConnections", "200"); // Set N of concurrent connection
+    /**
+     * Creates the pooled HTTP client; idle and expired connections are evicted in the background.
+     *
+     * @return HTTP client closed on shutdown
+     */
+    @Bean
+    public CloseableHttpClient loadTestHttpClient(LoadTestConnectionManager connectionManager,
+        @Value("${performance.load.http.idle-eviction-seconds:30}") long idleEvictionSeconds) {
+        return HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .evictIdleConnections(TimeValue.ofSeconds(idleEvictionSeconds))
+            .evictExpiredConnections()
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(TIMEOUT)
+                .setResponseTimeout(TIMEOUT)
+                .build())
+            .build();
+    }
 
-        return new RestTemplate(factory);
+    /**
+     * Creates and configures a RestTemplate bean on the pooled HTTP client.
+     *
+     * @return Configured RestTemplate instance
+     */
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient loadTestHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(loadTestHttpClient));
     }
 }
\ No newline at end of file
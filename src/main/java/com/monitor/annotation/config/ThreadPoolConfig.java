@@ -5,15 +5,24 @@
 
 package com.monitor.annotation.config;
 
+import com.monitor.annotation.thread.MonitoredThreadRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
  * Configuration class for thread pool executors.
- * Defines two separate thread pools:
+ * Defines four separate thread pools:
  * - Performance test executor - for handling performance test requests
  * - Monitor thread executor - for handling monitoring tasks
+ * - Metrics fan-out executor - for writing metrics stream events to SSE and WebSocket clients
+ * - Metrics stream scheduler - for the per-test metrics stream ticks
+ *
+ * The executors are left for the container to initialize, so that the
+ * {@link ExecutorMonitoringPostProcessor} can instrument them for queue wait, run time and
+ * rejections of their tasks before their pools are created.
  */
 @Configuration
 public class ThreadPoolConfig {
@@ -23,16 +32,16 @@ public class ThreadPoolConfig {
      * - Max pool size: 50
      * - Queue capacity: 100
      * - Thread name prefix: "PerfTest-"
+     * - Threads registered with the {@link MonitoredThreadRegistry} while they run
      */
     @Bean("performanceTestExecutor")
-    public ThreadPoolTaskExecutor performanceTestExecutor() {
+    public ThreadPoolTaskExecutor performanceTestExecutor(MonitoredThreadRegistry registry) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(10);
         executor.setMaxPoolSize(50);
         executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("PerfTest-");
+        executor.setThreadFactory(registry.wrap(new CustomizableThreadFactory("PerfTest-")));
         executor.setKeepAliveSeconds(60);
-        executor.initialize();
         return executor;
     }
 
@@ -51,7 +60,40 @@ public class ThreadPoolConfig {
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("MonitorThread-");
         executor.setKeepAliveSeconds(60);
-        executor.initialize();
         return executor;
     }
+
+    /**
+     * Creates thread pool for writing metrics stream events with following settings
+     * - Core pool size: 4
+     * - Max pool size: 16
+     * - Queue capacity: 10000 (at most one pending task per subscriber)
+     * - Thread name prefix: "MetricsFanout-"
+     */
+    @Bean("metricsFanoutExecutor")
+    public ThreadPoolTaskExecutor metricsFanoutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("MetricsFanout-");
+        executor.setKeepAliveSeconds(60);
+        return executor;
+    }
+
+    /**
+     * Creates the scheduler running the metrics stream publishers with following settings
+     * - Pool size: 2
+     * - Thread name prefix: "MetricsTick-"
+     *
+     * Declared explicitly because enabling WebSocket support registers its own TaskScheduler
+     * bean, which turns off the auto-configured one.
+     */
+    @Bean("metricsStreamScheduler")
+    public ThreadPoolTaskScheduler metricsStreamScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("MetricsTick-");
+        return scheduler;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.config;
+
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Configuration class for the non-blocking WebClient used by the load generator.
+ * Uses the same timeouts as RestTemplateConfig.
+ *
+ * Settings:
+ * - Connect timeout: 5000ms
+ * - Response timeout: 5000ms
+ * - Max connections: performance.load.reactive.max-connections (default 10000)
+ * - Pending connection acquires: unbounded
+ */
+@Configuration
+public class WebClientConfig {
+
+    /**
+     * Creates the connection pool dedicated to load test traffic.
+     *
+     * @return Connection provider released on shutdown
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider loadTestConnectionProvider(
+        @Value("${performance.load.reactive.max-connections:10000}") int maxConnections) {
+        return ConnectionProvider.builder("load-test")
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(-1)
+            .build();
+    }
+
+    /**
+     * Creates a WebClient on Reactor Netty using the load test connection pool.
+     *
+     * @return Configured WebClient instance
+     */
+    @Bean
+    public WebClient loadTestWebClient(ConnectionProvider loadTestConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(loadTestConnectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
+            .responseTimeout(Duration.ofSeconds(5));
+
+        return WebClient.builder()
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .build();
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.config;
+
+import com.monitor.annotation.controller.MetricsWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * Configuration class for the WebSocket variant of the metrics stream.
+ *
+ * Endpoint:
+ * - /performanceMeasure/metrics/ws/{testId}: same-origin only
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final MetricsWebSocketHandler metricsWebSocketHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(metricsWebSocketHandler, "/performanceMeasure/metrics/ws/*");
+    }
+}
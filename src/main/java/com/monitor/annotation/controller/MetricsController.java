@@ -5,176 +5,113 @@
 
 package com.monitor.annotation.controller;
 
-import com.monitor.annotation.dto.MemoryMetrics;
-import com.monitor.annotation.dto.TestResult;
-import com.monitor.annotation.dto.ThreadMetrics;
+import com.monitor.annotation.dto.DeadlockEvent;
+import com.monitor.annotation.dto.EndpointStatistics;
+import com.monitor.annotation.dto.ExecutorMetrics;
+import com.monitor.annotation.dto.GcEvent;
+import com.monitor.annotation.dto.MemoryPoolMetrics;
+import com.monitor.annotation.dto.MethodStatistics;
+import com.monitor.annotation.service.DeadlockMonitorService;
+import com.monitor.annotation.service.ExecutorMonitorService;
+import com.monitor.annotation.service.GcEventMonitorService;
 import com.monitor.annotation.service.MemoryMonitorService;
-import com.monitor.annotation.service.PerformanceTestService;
-import com.monitor.annotation.service.ThreadMonitorService;
-import java.time.Duration;
+import com.monitor.annotation.service.MetricsStreamHub;
+import com.monitor.annotation.service.PerformanceMonitorService;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.TaskScheduler;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-
+import reactor.core.publisher.Flux;
+
+/**
+ * Metrics endpoints. The per-test SSE stream starts with a SNAPSHOT message carrying the full
+ * TestResult, followed by DELTA messages carrying only the aggregates and the samples added
+ * since the previous message. Each event id is a resume token; a reconnecting client passes
+ * the last one (lastEventId parameter or Last-Event-ID header) to receive only newer samples.
+ * Any number of clients can watch the same test; they share one publisher in
+ * {@link MetricsStreamHub}. The reactive variant of the stream emits the same events as a
+ * Flux, holding no thread per client and conflating to the latest state for slow clients.
+ * The same messages are also available over WebSocket, optionally in a compact binary
+ * encoding; see {@link MetricsWebSocketHandler}.
+ * Deadlocks are reported separately from the metrics, as a list of recent cycles and as an
+ * SSE stream of newly detected ones. Individual garbage collections are listed from the
+ * events recorded by {@link GcEventMonitorService}. Task timings of the application's own
+ * thread pools come from {@link ExecutorMonitorService}. Requests to monitored endpoints are
+ * broken down into their Tomcat and Spring MVC phases.
+ */
 @RestController
 @RequestMapping("/performanceMeasure/metrics")
 @RequiredArgsConstructor
 @Slf4j
 public class MetricsController {
 
+    private final PerformanceMonitorService performanceMonitorService;
+    private final MetricsStreamHub metricsStreamHub;
+    private final DeadlockMonitorService deadlockMonitorService;
     private final MemoryMonitorService memoryMonitorService;
-    private final PerformanceTestService performanceTestService;
-    private final ThreadMonitorService threadMonitorService;
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<String, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
-
-    @Qualifier("taskScheduler")
-    private final TaskScheduler taskScheduler;
-
-    @GetMapping(path = "/stream/{testId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter streamMetrics(@PathVariable String testId) {
-        log.info("SSE Stream requested for test: {}", testId);
-        SseEmitter emitter = new SseEmitter(180_000L); // 3분 타임아웃
-
-        try {
-            // 이전 emitter가 있다면 정리
-            removeEmitter(testId);
-
-            emitters.put(testId, emitter);
-            log.info("Started metrics stream for test: {}", testId);
-
-            // 비동기로 메트릭 전송 시작
-            startMetricsEmission(testId, emitter);
-
-            // 완료, 타임아웃, 에러 처리
-            emitter.onCompletion(() -> {
-                log.info("Metrics stream completed for test: {}", testId);
-                removeEmitter(testId);
-            });
-
-            emitter.onTimeout(() -> {
-                log.warn("Metrics stream timed out for test: {}", testId);
-                removeEmitter(testId);
-            });
-
-            emitter.onError(ex -> {
-                log.error("Error in metrics stream for test: {}", testId, ex);
-                removeEmitter(testId);
-            });
+    private final GcEventMonitorService gcEventMonitorService;
+    private final ExecutorMonitorService executorMonitorService;
 
-        } catch (Exception e) {
-            log.error("Error creating metrics stream for test: {}", testId, e);
-            emitter.completeWithError(e);
-        }
-
-        return emitter;
+    @GetMapping("/methods")
+    public Map<String, MethodStatistics> getMethodStatistics() {
+        return performanceMonitorService.getMethodStatistics();
     }
 
-    private void removeEmitter(String testId) {
-        // 스케줄된 태스크 취소
-        ScheduledFuture<?> task = scheduledTasks.remove(testId);
-        if (task != null) {
-            task.cancel(true);
-        }
-
-        SseEmitter oldEmitter = emitters.remove(testId);
-        if (oldEmitter != null) {
-            try {
-                oldEmitter.complete();
-            } catch (Exception e) {
-                log.warn("Error completing old emitter for test: {}", testId, e);
-            }
-        }
+    @GetMapping("/requests")
+    public Map<String, EndpointStatistics> getRequestPhases() {
+        return performanceMonitorService.getEndpointStatistics();
     }
 
-    private void startMetricsEmission(String testId, SseEmitter emitter) {
-        log.info("Starting metrics emission for test: {}", testId);
-        ScheduledFuture<?> task = taskScheduler.scheduleWithFixedDelay(() -> {
-            try {
-                TestResult testResult = performanceTestService.getTestStatus(testId);
-                if (testResult == null) {
-                    log.warn("No test result found for test: {}", testId);
-                    removeEmitter(testId);
-                    return;
-                }
-
-                log.debug("Creating metrics message for test: {}, status: {}", testId,
-                    testResult.getStatus());
-                MetricsMessage message = createMetricsMessage(testResult);
-                emitter.send(message);
-                log.debug("Sent metrics message for test: {}", testId);
-
-                if (testResult.isCompleted()) {
-                    log.info("Test completed, closing stream for test: {}", testId);
-                    removeEmitter(testId);
-                }
-            } catch (Exception e) {
-                log.error("Error sending metrics for test: {}", testId, e);
-                removeEmitter(testId);
-            }
-        }, Duration.ofSeconds(1));
-
-        scheduledTasks.put(testId, task);
+    @GetMapping("/memory/pools")
+    public List<MemoryPoolMetrics> getMemoryPools() {
+        return memoryMonitorService.getMemoryPools();
     }
 
-    private MetricsMessage createMetricsMessage(TestResult testResult) {
-        log.info("Creating metrics message for test: {}, status: {}",
-            testResult.getTestId(), testResult.getStatus());
-
-        MemoryMetrics metrics = memoryMonitorService.collectMetrics();
-        testResult.addMemoryMetric(metrics);
-
-        ThreadMetrics threadMetrics = null;
-        if (!testResult.isCompleted()) {
-            threadMetrics = threadMonitorService.getMethodMetrics(
-                testResult.getClassName(),
-                testResult.getMethodName()
-            );
-            testResult.updateThreadMetrics(threadMetrics);
-        }
+    @GetMapping("/executors")
+    public Map<String, ExecutorMetrics> getExecutors() {
+        return executorMonitorService.getExecutorMetrics();
+    }
 
-        TestStatus status;
-        switch (testResult.getStatus()) {
-            case "START_TEST":
-                status = TestStatus.START_TEST;
-                break;
-            case "STOP_TEST":
-                status = TestStatus.STOP_TEST;
-                break;
-            default:
-                status = testResult.isCompleted() ? TestStatus.COMPLETED : TestStatus.RUNNING;
-        }
+    @GetMapping("/gc/events")
+    public List<GcEvent> getGcEvents() {
+        return gcEventMonitorService.getRecentEvents();
+    }
 
-        log.info("Determined TestStatus: {}", status);
-        return new MetricsMessage(status, testResult, threadMetrics, metrics);
+    @GetMapping("/deadlocks")
+    public List<DeadlockEvent> getDeadlocks() {
+        return deadlockMonitorService.getRecentEvents();
     }
 
-    @Getter
-    @AllArgsConstructor
-    private static class MetricsMessage {
+    @GetMapping(path = "/deadlocks/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<DeadlockEvent>> streamDeadlocks() {
+        return deadlockMonitorService.events()
+            .map(event -> ServerSentEvent.builder(event).event("deadlock").build());
+    }
 
-        private final TestStatus status;
-        private final TestResult testStatus;
-        private final ThreadMetrics threadMetrics;
-        private final MemoryMetrics metrics;
+    @GetMapping(path = "/stream/{testId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMetrics(@PathVariable String testId,
+        @RequestParam(required = false) String lastEventId,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader) {
+        log.info("SSE Stream requested for test: {}", testId);
+        return metricsStreamHub.subscribe(testId,
+            lastEventId != null ? lastEventId : lastEventIdHeader);
     }
 
-    public enum TestStatus {
-        RUNNING,
-        START_TEST,
-        STOP_TEST,
-        COMPLETED
+    @GetMapping(path = "/reactive/stream/{testId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamMetricsReactive(@PathVariable String testId,
+        @RequestParam(required = false) String lastEventId,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader) {
+        log.info("Reactive SSE stream requested for test: {}", testId);
+        return metricsStreamHub.subscribeFlux(testId,
+            lastEventId != null ? lastEventId : lastEventIdHeader);
     }
 }
\ No newline at end of file
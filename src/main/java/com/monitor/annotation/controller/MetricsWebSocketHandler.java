@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.controller;
+
+import com.monitor.annotation.service.MetricsStreamHub;
+import java.net.URI;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * WebSocket endpoint of the per-test metrics stream. Sends the same SNAPSHOT and DELTA messages
+ * as the SSE stream, each with its resume token in the id field.
+ *
+ * The client picks the encoding through the WebSocket subprotocol:
+ * - metrics.cbor: compact CBOR binary messages (see MetricsCborEncoder)
+ * - metrics.json, or no subprotocol: JSON text messages
+ * A reconnecting client passes the id of the last message as the lastEventId query parameter.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MetricsWebSocketHandler extends AbstractWebSocketHandler
+    implements SubProtocolCapable {
+
+    public static final String CBOR_PROTOCOL = "metrics.cbor";
+    public static final String JSON_PROTOCOL = "metrics.json";
+
+    private static final String SUBSCRIPTION_ATTRIBUTE = "metricsSubscription";
+
+    private final MetricsStreamHub metricsStreamHub;
+
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(CBOR_PROTOCOL, JSON_PROTOCOL);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        URI uri = session.getUri();
+        if (uri == null) {
+            log.warn("Closing metrics WebSocket without a request URI");
+            closeQuietly(session, CloseStatus.BAD_DATA);
+            return;
+        }
+        String path = uri.getPath();
+        String testId = path.substring(path.lastIndexOf('/') + 1);
+        String lastEventId = UriComponentsBuilder.fromUri(uri).build()
+            .getQueryParams().getFirst("lastEventId");
+        boolean binary = CBOR_PROTOCOL.equals(session.getAcceptedProtocol());
+
+        log.info("WebSocket stream requested for test: {}", testId);
+        Runnable unsubscribe = metricsStreamHub.subscribe(testId, session, binary, lastEventId);
+        session.getAttributes().put(SUBSCRIPTION_ATTRIBUTE, unsubscribe);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Object unsubscribe = session.getAttributes().remove(SUBSCRIPTION_ATTRIBUTE);
+        if (unsubscribe instanceof Runnable) {
+            ((Runnable) unsubscribe).run();
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("Error in metrics WebSocket {}: {}", session.getId(), exception.getMessage());
+    }
+
+    private void closeQuietly(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (Exception e) {
+            log.debug("Failed to close metrics WebSocket {}: {}", session.getId(), e.getMessage());
+        }
+    }
+}
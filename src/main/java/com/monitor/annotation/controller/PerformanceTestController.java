@@ -85,6 +85,15 @@ public class PerformanceTestController {
         return testId;
     }
 
+    /**
+     * Answers an invalid test scenario with 400 and the reason.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        log.warn("Rejected test request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
     /**
      * Retrieves the current status of a specific test.
      * Used by the frontend to poll test progress and update the UI.
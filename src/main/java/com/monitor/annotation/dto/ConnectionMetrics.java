@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ConnectionMetrics {
+
+    private long leases;                    // Connections taken from the pool
+    private long reusedConnections;         // Leases served by an already open connection
+    private long openedConnections;         // New connections opened (churn)
+    private long closedConnections;         // Connections closed instead of returned to the pool
+    private double reuseRatio;              // reusedConnections / leases
+    private double averagePoolWaitMs;       // Mean time waiting for a pooled connection
+    private double maxPoolWaitMs;           // Longest time waiting for a pooled connection
+    private double averageConnectTimeMs;    // Mean time to open a new connection
+    private double maxConnectTimeMs;        // Longest time to open a new connection
+}
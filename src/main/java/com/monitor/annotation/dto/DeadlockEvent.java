@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * One deadlock cycle found by the deadlock monitor. Each thread in the cycle waits for a lock
+ * owned by the next one.
+ */
+@Getter
+@Builder
+public class DeadlockEvent {
+
+    private LocalDateTime detectedAt;
+    private Detection detection;            // Check that found the cycle
+    private List<DeadlockedThread> threads; // In wait-for order
+
+    public enum Detection {
+        MONITOR,    // findMonitorDeadlockedThreads: object monitors only
+        FULL        // findDeadlockedThreads: monitors and ownable synchronizers
+    }
+
+    @Getter
+    @Builder
+    public static class DeadlockedThread {
+
+        private long threadId;
+        private String threadName;
+        private Thread.State threadState;
+        private String lockName;            // Lock this thread is waiting for
+        private long lockOwnerId;           // Thread owning that lock
+        private String lockOwnerName;
+        private List<String> lockedMonitors;
+        private List<String> lockedSynchronizers;
+        private StackTraceElement[] stackTrace;
+    }
+}
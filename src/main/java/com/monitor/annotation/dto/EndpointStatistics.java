@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Where the time of the requests to one monitored endpoint goes, from Tomcat reading the
+ * request until the response is flushed. Phase times are in microseconds.
+ */
+@Getter
+@Builder
+public class EndpointStatistics {
+
+    private long requestCount;              // Completed synchronous requests since startup
+    private long serverErrorCount;          // 5xx responses
+    private LatencySnapshot parseMicros;    // Request line and headers, until the container
+    private LatencySnapshot filtersMicros;  // Valves, filters and dispatch, in and out
+    private LatencySnapshot readMicros;     // Request body conversion
+    private LatencySnapshot handlerMicros;  // Other argument resolution and the handler method
+    private LatencySnapshot writeMicros;    // Response body conversion
+    private LatencySnapshot flushMicros;    // Flushing the rest of the response
+    private LatencySnapshot totalMicros;
+}
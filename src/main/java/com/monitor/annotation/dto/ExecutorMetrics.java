@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Pool state and task timings of one monitored executor. Task times are in microseconds.
+ * Executors whose tasks are not timed report the task counts of the pool itself, and no
+ * failures, timings or saturation.
+ */
+@Getter
+@Builder
+public class ExecutorMetrics {
+
+    private String name;                    // Bean name of the executor
+    private String type;                    // Pool class, e.g. ThreadPoolTaskExecutor
+    private boolean timed;                  // Whether its tasks are timed
+
+    // Point-in-time pool state
+    private int activeThreads;
+    private int poolSize;
+    private int corePoolSize;
+    private int maxPoolSize;
+    private int queueSize;
+    private int queueCapacity;
+
+    // Since the executor was registered
+    private long submittedTasks;
+    private long completedTasks;
+    private long failedTasks;               // Runnables that threw
+    private long rejectedTasks;
+    private int waitingTasks;               // Submitted but not yet started
+    private LatencySnapshot queueWaitMicros; // Submission until start
+    private LatencySnapshot runTimeMicros;  // Start until finish
+    private long saturatedMillis;           // Time with every worker busy and tasks waiting
+    private double saturationRatio;         // saturatedMillis / observed time
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.dto;
+
+import com.monitor.annotation.metrics.JvmMemoryRegistry.GcCategory;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * One garbage collection reported by a GC notification.
+ */
+@Getter
+@Builder
+public class GcEvent {
+
+    private long gcId;                      // Collection number of this collector
+    private String gcName;                  // Collector, e.g. "G1 Young Generation"
+    private String gcAction;                // e.g. "end of minor GC"
+    private String gcCause;                 // e.g. "G1 Evacuation Pause", "System.gc()"
+    private GcCategory category;
+    private boolean pause;                  // Stop-the-world pause rather than a concurrent cycle
+    private LocalDateTime startTime;
+    private long durationMillis;
+    private Map<String, Long> usedBefore;   // Bytes used per memory pool
+    private Map<String, Long> usedAfter;
+    private long reclaimedBytes;            // Heap bytes freed (negative if the heap grew)
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * GC pauses that happened while a load test ran, and how many of its requests they stalled.
+ */
+@Getter
+@Builder
+public class GcImpact {
+
+    private long pauseCount;                // Stop-the-world pauses during the test
+    private long totalPauseMillis;
+    private long maxPauseMillis;
+    private long affectedRequests;          // Requests in flight during at least one pause
+    private double affectedRequestRatio;    // affectedRequests / completed requests
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<Pause> pauses;             // Most recent pauses, oldest first (omitted in deltas)
+
+    @Getter
+    @Builder
+    public static class Pause {
+
+        private LocalDateTime startTime;
+        private String gcName;
+        private String gcCause;
+        private long durationMillis;
+        private long reclaimedBytes;
+        private int inFlightRequests;       // Requests of the test outstanding when reported
+    }
+}
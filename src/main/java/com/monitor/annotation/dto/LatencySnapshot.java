@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LatencySnapshot {
+
+    private long count;     // Number of recorded samples
+    private long min;       // Minimum latency
+    private long max;       // Maximum latency
+    private double mean;    // Mean latency
+    private long p50;       // Median latency
+    private long p90;       // 90th percentile latency
+    private long p99;       // 99th percentile latency
+    private long p999;      // 99.9th percentile latency
+
+    public static LatencySnapshot empty() {
+        return LatencySnapshot.builder().build();
+    }
+}
@@ -8,6 +8,9 @@ package com.monitor.annotation.dto;
 import lombok.Builder;
 import lombok.Getter;
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Getter
 @Builder
@@ -19,6 +22,7 @@ public class MemoryMetrics {
     private long heapMax;       // Maximum heap memory
     private long youngGenUsed;  // Young Generation usage
     private long oldGenUsed;    // Old Generation usage
+    private double allocationRate;  // Bytes allocated per second (estimated before JDK 21)
 
     // Non-Heap Memory
     private long nonHeapUsed;
@@ -32,6 +36,8 @@ public class MemoryMetrics {
     private long oldGcCount;    // Number of Full GC occurrences
     private long youngGcTime;   // Total time spent on Young GC
     private long oldGcTime;     // Total time spent on Full GC
+    private long concurrentGcCount; // Number of concurrent GC cycles (G1, ZGC, Shenandoah)
+    private long concurrentGcTime;  // Total time of concurrent GC cycles
 
     // Thread Metrics
     private int threadCount;        // Total number of threads
@@ -43,6 +49,9 @@ public class MemoryMetrics {
     @Builder.Default
     private ThreadPoolMetrics performanceThreadPool = ThreadPoolMetrics.empty();
 
+    // Every monitored executor of the application, by bean name
+    private Map<String, ThreadPoolMetrics> threadPools;
+
     @Getter
     @Builder
     public static class ThreadPoolMetrics {
@@ -78,9 +87,9 @@ public class MemoryMetrics {
             return ThreadPoolMetrics.builder()
                 .activeThreads(threadMetrics.getActivePoolThreads())
                 .poolSize(threadMetrics.getPoolSize())
-                .corePoolSize(10)  // Value set in ThreadPoolConfig
-                .maxPoolSize(50)   // Value set in ThreadPoolConfig
-                .taskCount(threadMetrics.getQueuedTasks())
+                .corePoolSize(valueOf(threadMetrics.getCorePoolSize()))
+                .maxPoolSize(valueOf(threadMetrics.getMaxPoolSize()))
+                .taskCount(threadMetrics.getTaskCount() != null ? threadMetrics.getTaskCount() : 0)
                 .completedTaskCount(threadMetrics.getCompletedTasks())
                 .queueSize(threadMetrics.getQueuedTasks().intValue())
                 .waitingThreads(threadMetrics.getWaitingThreadCount())
@@ -88,6 +97,49 @@ public class MemoryMetrics {
                 .runningThreads(threadMetrics.getRunningThreadCount())
                 .build();
         }
+
+        /**
+         * Pool state of a running pool. Thread states are not sampled: active threads count as
+         * running and idle ones as waiting.
+         */
+        public static ThreadPoolMetrics from(ThreadPoolExecutor pool) {
+            int active = pool.getActiveCount();
+            int poolSize = pool.getPoolSize();
+            return ThreadPoolMetrics.builder()
+                .activeThreads(active)
+                .poolSize(poolSize)
+                .corePoolSize(pool.getCorePoolSize())
+                .maxPoolSize(pool.getMaximumPoolSize())
+                .taskCount(pool.getTaskCount())
+                .completedTaskCount(pool.getCompletedTaskCount())
+                .queueSize(pool.getQueue().size())
+                .waitingThreads(Math.max(poolSize - active, 0))
+                .runningThreads(active)
+                .build();
+        }
+
+        /**
+         * Pool state of a ForkJoinPool. Its size is bounded by the parallelism, and it keeps no
+         * task counts. Threads blocked in joins or managed blocking count as waiting.
+         */
+        public static ThreadPoolMetrics from(ForkJoinPool pool) {
+            int running = pool.getRunningThreadCount();
+            int poolSize = pool.getPoolSize();
+            return ThreadPoolMetrics.builder()
+                .activeThreads(pool.getActiveThreadCount())
+                .poolSize(poolSize)
+                .corePoolSize(pool.getParallelism())
+                .maxPoolSize(pool.getParallelism())
+                .queueSize((int) Math.min(
+                    pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount(), Integer.MAX_VALUE))
+                .waitingThreads(Math.max(poolSize - running, 0))
+                .runningThreads(running)
+                .build();
+        }
+
+        private static int valueOf(Integer value) {
+            return value != null ? value : 0;
+        }
     }
 
     public static MemoryMetrics empty() {
@@ -110,6 +162,7 @@ public class MemoryMetrics {
             .heapMax(this.heapMax)
             .youngGenUsed(this.youngGenUsed)
             .oldGenUsed(this.oldGenUsed)
+            .allocationRate(this.allocationRate)
             .nonHeapUsed(this.nonHeapUsed)
             .nonHeapCommitted(this.nonHeapCommitted)
             .nonHeapMax(this.nonHeapMax)
@@ -119,11 +172,14 @@ public class MemoryMetrics {
             .oldGcCount(this.oldGcCount)
             .youngGcTime(this.youngGcTime)
             .oldGcTime(this.oldGcTime)
+            .concurrentGcCount(this.concurrentGcCount)
+            .concurrentGcTime(this.concurrentGcTime)
             .threadCount(this.threadCount)
             .daemonThreadCount(this.daemonThreadCount)
             .peakThreadCount(this.peakThreadCount)
             .deadlockedThreads(this.deadlockedThreads)
             .performanceThreadPool(poolMetrics)
+            .threadPools(this.threadPools)
             .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MemoryPoolMetrics {
+
+    private String name;            // Pool name as reported by the JVM
+    private String category;        // EDEN, SURVIVOR, OLD, METASPACE or NON_HEAP
+    private long used;
+    private long committed;
+    private long max;               // -1 if undefined
+    private long usedAfterGc;       // Usage after the last collection of the pool, -1 if unsupported
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MethodStatistics {
+
+    private long totalCount;                // Calls since startup
+    private double averageExecutionTime;    // Average execution time since startup (ms)
+    private long totalAllocatedBytes;       // Heap bytes allocated by all calls since startup
+    private double averageAllocatedBytes;   // Heap bytes allocated per call
+    private WindowStatistics oneMinute;     // Last 1 minute
+    private WindowStatistics fiveMinutes;   // Last 5 minutes
+    private WindowStatistics fifteenMinutes; // Last 15 minutes
+}
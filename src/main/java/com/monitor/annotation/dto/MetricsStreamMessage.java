@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Message of the per-test metrics stream. A SNAPSHOT carries the full testStatus; a DELTA
+ * carries the aggregates in progress plus only the samples added since the previous message.
+ * The id is the resume token of the message; SSE clients also receive it as the event id.
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MetricsStreamMessage {
+
+    private String id;
+    private MessageType type;
+    private TestStatus status;
+    private TestResult testStatus;              // SNAPSHOT only
+    private TestProgress progress;              // DELTA only
+    private List<MemoryMetrics> memoryMetrics;  // DELTA only: added since the previous message
+    private List<Long> responseTimes;           // DELTA only: added since the previous message
+    private ThreadMetrics threadMetrics;
+    private MemoryMetrics metrics;              // Memory sample taken for this message
+
+    public enum MessageType {
+        SNAPSHOT,
+        DELTA
+    }
+
+    public enum TestStatus {
+        RUNNING,
+        START_TEST,
+        STOP_TEST,
+        COMPLETED
+    }
+}
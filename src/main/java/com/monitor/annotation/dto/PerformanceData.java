@@ -16,22 +16,26 @@ public class PerformanceData {
     private String methodName;        // Name of the measured method
     private String description;       // Method description
     private long executionTime;       // Execution time (milliseconds)
-    private long memoryUsed;          // Memory used (KB)
+    private long allocatedBytes;      // Heap bytes allocated by the call (-1 if unsupported)
     private LocalDateTime timestamp;  // Measurement time
     private String className;         // Class name
     private boolean isSlowExecution;  // Performance bottleneck indicator
-    private ThreadMetrics threadMetrics; // Thread metrics
+    private boolean sampled;          // Whether deep thread metrics were collected
+    private boolean error;            // Whether the method threw an exception
+    private ThreadMetrics threadMetrics; // Thread metrics (null when not sampled)
 
     public static PerformanceData of(String className, String methodName, String description,
-        long executionTime, long memoryUsed, ThreadMetrics threadMetrics) {
+        long executionTime, long allocatedBytes, ThreadMetrics threadMetrics, boolean error) {
         return PerformanceData.builder()
             .className(className)
             .methodName(methodName)
             .description(description)
             .executionTime(executionTime)
-            .memoryUsed(memoryUsed)
+            .allocatedBytes(allocatedBytes)
             .timestamp(LocalDateTime.now())
             .isSlowExecution(executionTime > 1000)
+            .sampled(threadMetrics != null)
+            .error(error)
             .threadMetrics(threadMetrics)
             .build();
     }
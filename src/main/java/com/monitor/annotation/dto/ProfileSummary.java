@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Aggregated JDK Flight Recorder data of one load test: where CPU time went, which code
+ * allocated the most, where threads waited for locks, and the collections in between.
+ */
+@Getter
+@Builder
+public class ProfileSummary {
+
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private long executionSamples;              // Stack samples of running Java threads
+    private List<HotMethod> hotMethods;         // Top frames by sample count
+    private long sampledAllocationBytes;        // Estimated bytes behind the allocation samples
+    private List<AllocationSite> allocationSites;
+    private List<LockContention> lockContention;
+    private long gcCount;
+    private long totalGcPauseMillis;
+    private long longestGcPauseMillis;
+
+    @Getter
+    @Builder
+    public static class HotMethod {
+
+        private String method;                  // Class.method of the executing frame
+        private long samples;
+        private double percent;                 // Share of all execution samples
+    }
+
+    @Getter
+    @Builder
+    public static class AllocationSite {
+
+        private String site;                    // First application frame, Class.method:line
+        private String objectClass;             // Allocated type
+        private long bytes;                     // Estimated bytes allocated
+        private double percent;                 // Share of all sampled bytes
+    }
+
+    @Getter
+    @Builder
+    public static class LockContention {
+
+        private WaitKind kind;
+        private String lockClass;               // Monitor class or parked-on blocker class
+        private String site;                    // First application frame, Class.method:line
+        private long events;
+        private long totalMillis;
+        private long maxMillis;
+    }
+
+    public enum WaitKind {
+        MONITOR_ENTER,  // Blocked entering a synchronized block
+        THREAD_PARK     // Parked in a java.util.concurrent lock or condition
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Aggregate fields of a {@link TestResult} without its sample lists. Sent in metrics stream
+ * deltas, where the new samples are sent separately.
+ */
+@Getter
+@Builder
+public class TestProgress {
+
+    private String testId;
+    private String status;
+    private boolean completed;
+    private LocalDateTime endTime;
+    private String errorMessage;
+    private int totalRequests;
+    private int successfulRequests;
+    private int failedRequests;
+    private double requestsPerSecond;
+    private double errorRate;
+    private Long latestResponseTime;
+    private double averageResponseTime;
+    private double minResponseTime;
+    private double maxResponseTime;
+    private LatencySnapshot latency;
+    private ConnectionMetrics connectionMetrics;
+    private GcImpact gcImpact;
+    private double averageHeapUsage;
+    private double maxHeapUsage;
+
+    public static TestProgress of(TestResult result) {
+        return TestProgress.builder()
+            .testId(result.getTestId())
+            .status(result.getStatus())
+            .completed(result.isCompleted())
+            .endTime(result.getEndTime())
+            .errorMessage(result.getErrorMessage())
+            .totalRequests(result.getTotalRequests())
+            .successfulRequests(result.getSuccessfulRequests())
+            .failedRequests(result.getFailedRequests())
+            .requestsPerSecond(result.getRequestsPerSecond())
+            .errorRate(result.getErrorRate())
+            .latestResponseTime(result.getLatestResponseTime())
+            .averageResponseTime(result.getAverageResponseTime())
+            .minResponseTime(result.getMinResponseTime())
+            .maxResponseTime(result.getMaxResponseTime())
+            .latency(result.getLatency())
+            .connectionMetrics(result.getConnectionMetrics())
+            .gcImpact(result.getGcStats().snapshot(false))
+            .averageHeapUsage(result.getAverageHeapUsage())
+            .maxHeapUsage(result.getMaxHeapUsage())
+            .build();
+    }
+}
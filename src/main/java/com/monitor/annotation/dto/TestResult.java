@@ -6,6 +6,10 @@
 package com.monitor.annotation.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.monitor.annotation.metrics.ConnectionStats;
+import com.monitor.annotation.metrics.GcImpactStats;
+import com.monitor.annotation.metrics.LatencyHistogram;
+import com.monitor.annotation.metrics.LongRingBuffer;
 import java.util.ArrayList;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,18 +32,16 @@ public class TestResult {
     private boolean completed;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
-    private int totalRequests;
-    private int successfulRequests;
-    private int failedRequests;
-    private double averageResponseTime;
-    private double maxResponseTime;
-    private double minResponseTime;
-    private double requestsPerSecond;
-    private double errorRate;
+    private volatile int totalRequests;
+    private volatile int successfulRequests;
+    private volatile int failedRequests;
+    private volatile double requestsPerSecond;
+    private volatile double errorRate;
     private String status;
     private String errorMessage;
-    private Long latestResponseTime;
+    private volatile Long latestResponseTime;
     private ThreadMetrics threadMetrics;
+    private ProfileSummary profile;         // JFR profile, set when a profiled test ends
 
     // Memory monitoring
     private double averageHeapUsage;
@@ -50,46 +52,103 @@ public class TestResult {
     // mutable lists
     @Builder.Default
     private final List<MemoryMetrics> memoryMetrics = new ArrayList<>();
+
+    // Response time statistics: constant memory, merged on read
+    @JsonIgnore
+    @Builder.Default
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+    // Client-side connection activity (pool wait, connect time, reuse)
+    @JsonIgnore
     @Builder.Default
-    private final List<Long> responseTimes = new ArrayList<>();
+    private final ConnectionStats connectionStats = new ConnectionStats();
+
+    // GC pauses during the test and the requests they stalled
+    @JsonIgnore
+    @Builder.Default
+    private final GcImpactStats gcStats = new GcImpactStats();
+
+    // Opt-in bounded buffer of the most recent raw response times (null = disabled)
+    @JsonIgnore
+    private final LongRingBuffer responseTimeSamples;
 
     public synchronized void updateThreadMetrics(ThreadMetrics metrics) {
         this.threadMetrics = metrics;
     }
 
-    public synchronized void updateProgress(int totalRequests, int successfulRequests,
-        int failedRequests) {
-        synchronized (lock) {
-            this.totalRequests = totalRequests;
-            this.successfulRequests = successfulRequests;
-            this.failedRequests = failedRequests;
-
-            if (totalRequests > 0) {
-                this.errorRate = failedRequests * 100.0 / totalRequests;
-                this.averageResponseTime = this.responseTimes.stream()
-                    .mapToLong(Long::valueOf)
-                    .average()
-                    .orElse(0.0);
-
-                double duration =
-                    java.time.Duration.between(startTime, LocalDateTime.now()).toMillis() / 1000.0;
-                this.requestsPerSecond = duration > 0 ? totalRequests / duration : 0;
-            }
+    public void updateProgress(int totalRequests, int successfulRequests, int failedRequests) {
+        this.totalRequests = totalRequests;
+        this.successfulRequests = successfulRequests;
+        this.failedRequests = failedRequests;
+
+        if (totalRequests > 0) {
+            this.errorRate = failedRequests * 100.0 / totalRequests;
+
+            double duration =
+                java.time.Duration.between(startTime, LocalDateTime.now()).toMillis() / 1000.0;
+            this.requestsPerSecond = duration > 0 ? totalRequests / duration : 0;
         }
     }
 
     public void addResponseTime(long responseTime) {
+        this.latestResponseTime = responseTime;
+        this.latencyHistogram.recordValue(responseTime);
+        if (this.responseTimeSamples != null) {
+            this.responseTimeSamples.add(responseTime);
+        }
+    }
+
+    public double getAverageResponseTime() {
+        return latencyHistogram.getMean();
+    }
+
+    public double getMaxResponseTime() {
+        return latencyHistogram.getMax();
+    }
+
+    public double getMinResponseTime() {
+        return latencyHistogram.getMin();
+    }
+
+    public LatencySnapshot getLatency() {
+        return latencyHistogram.snapshot();
+    }
+
+    public ConnectionMetrics getConnectionMetrics() {
+        return connectionStats.snapshot();
+    }
+
+    public GcImpact getGcImpact() {
+        return gcStats.snapshot(true);
+    }
+
+    public List<Long> getResponseTimes() {
+        return responseTimeSamples != null ? responseTimeSamples.toList() : List.of();
+    }
+
+    /**
+     * Sequence number of the next raw response time sample; pairs with
+     * {@link #responseTimesBetween(long, long)} to read only new samples.
+     */
+    public long responseTimeSequence() {
+        return responseTimeSamples != null ? responseTimeSamples.totalAdded() : 0;
+    }
+
+    public List<Long> responseTimesBetween(long fromSequence, long toSequence) {
+        return responseTimeSamples != null
+            ? responseTimeSamples.range(fromSequence, toSequence) : List.of();
+    }
+
+    public int memoryMetricCount() {
         synchronized (lock) {
-            this.latestResponseTime = responseTime;
-            this.responseTimes.add(responseTime);
-            this.maxResponseTime = Math.max(this.maxResponseTime, responseTime);
-            this.minResponseTime = this.minResponseTime == 0 ? responseTime
-                : Math.min(this.minResponseTime, responseTime);
-            // 평균 응답시간도 업데이트
-            this.averageResponseTime = this.responseTimes.stream()
-                .mapToLong(Long::valueOf)
-                .average()
-                .orElse(0.0);
+            return memoryMetrics.size();
+        }
+    }
+
+    public List<MemoryMetrics> memoryMetricsSince(int fromIndex) {
+        synchronized (lock) {
+            int from = Math.min(Math.max(fromIndex, 0), memoryMetrics.size());
+            return new ArrayList<>(memoryMetrics.subList(from, memoryMetrics.size()));
         }
     }
 
@@ -7,6 +7,7 @@ package com.monitor.annotation.dto;
 
 import lombok.Getter;
 import lombok.Setter;
+import java.util.List;
 import java.util.Map;
 
 @Getter
@@ -22,4 +23,40 @@ public class TestScenarioRequest {
     private int rampUpSeconds;              // Load ramp-up time (seconds)
     private String description;             // Test description
     private int timeoutSeconds = 60;        // Default timeout of 60 seconds
+    private int responseTimeSampleSize;     // Most recent raw response times to keep (0 = disabled)
+    private Engine engine = Engine.BLOCKING; // HTTP client used to send requests
+    private UserThreads userThreads = UserThreads.POOLED; // Threads running blocking simulated users
+    private int thinkTimeMillis;            // Pause between a user's consecutive requests
+    private int warmUpConnections;          // Connections to open before the test (blocking engine)
+    private int maxConnectionsPerRoute;     // Pool limit for the target host (0 = pool default)
+    private boolean profiling;              // Attach a JFR profile (hot methods, allocation, locks)
+
+    // Open model (arrival rate) settings; used instead of concurrentUsers/repeatCount when set
+    private double targetRps;               // Constant arrival rate (requests per second)
+    private int durationSeconds;            // Duration of the constant arrival rate
+    private List<LoadStage> stages;         // Stepped/ramped rate profile (overrides targetRps)
+    private int maxInFlight = 1000;         // Outstanding request cap (excess arrivals fail)
+
+    public enum Engine {
+        BLOCKING,   // RestTemplate, one thread per in-flight request
+        REACTIVE    // WebClient on Reactor Netty, non-blocking
+    }
+
+    public enum UserThreads {
+        POOLED,     // Platform thread pool owned by the test
+        VIRTUAL     // One virtual thread per user (Java 21+, falls back to POOLED)
+    }
+
+    public boolean isOpenModel() {
+        return targetRps > 0 || (stages != null && !stages.isEmpty());
+    }
+
+    @Getter
+    @Setter
+    public static class LoadStage {
+
+        private int durationSeconds;        // Stage duration (seconds)
+        private double targetRps;           // Arrival rate at the end of the stage
+        private boolean ramp;               // Ramp linearly from the previous rate
+    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ package com.monitor.annotation.dto;
 
 import java.util.ArrayList;
 import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -27,6 +28,7 @@ public class ThreadMetrics implements Cloneable {
     private String threadName;
     private long threadCpuTime;
     private long threadUserTime;
+    private long allocatedBytes;        // Heap bytes allocated by a child thread so far
     private Thread.State threadState;
     private boolean isDaemon;
     private int priority;
@@ -34,8 +36,11 @@ public class ThreadMetrics implements Cloneable {
 
     // thread pool metrics
     private Integer poolSize;
+    private Integer corePoolSize;
+    private Integer maxPoolSize;
     private Integer activePoolThreads;
     private Long queuedTasks;
+    private Long taskCount;
     private Long completedTasks;
 
     // Method internal thread tracing
@@ -43,6 +48,15 @@ public class ThreadMetrics implements Cloneable {
     private long parentThreadId;
     private List<ThreadLifecycleEvent> lifecycleEvents;
 
+    // Tasks run on other threads in this invocation's context (see InvocationContext)
+    private long asyncTaskCount;
+    private long asyncWallTime;         // Summed run time of the tasks (nanoseconds)
+    private long asyncCpuTime;          // CPU time of the tasks (nanoseconds)
+    private long asyncAllocatedBytes;   // Heap bytes allocated by the tasks
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean closed;             // Invocation returned; later tasks are not counted
+
     // thread state
     private int runningThreadCount;
     private int blockedThreadCount;
@@ -70,6 +84,27 @@ public class ThreadMetrics implements Cloneable {
         }
     }
 
+    /**
+     * Adds the cost of one task that ran in this invocation's context. Called by pool threads;
+     * ignored once the invocation has been closed.
+     */
+    public synchronized void recordAsyncTask(long wallNanos, long cpuNanos, long allocatedBytes) {
+        if (closed) {
+            return;
+        }
+        asyncTaskCount++;
+        asyncWallTime += wallNanos;
+        asyncCpuTime += cpuNanos;
+        asyncAllocatedBytes += allocatedBytes;
+    }
+
+    /**
+     * Ends the invocation, freezing its async totals for readers of the stored metrics.
+     */
+    public synchronized void close() {
+        closed = true;
+    }
+
     public static ThreadMetrics empty() {
         return ThreadMetrics.builder()
             .type(MetricType.SYSTEM)
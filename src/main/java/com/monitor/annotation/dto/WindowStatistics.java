@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class WindowStatistics {
+
+    private long windowSeconds;     // Length of the sliding window
+    private long count;             // Number of calls in the window
+    private double callsPerSecond;  // Throughput over the part of the window elapsed so far
+    private double mean;            // Mean execution time (ms)
+    private long min;               // Minimum execution time (ms)
+    private long max;               // Maximum execution time (ms)
+    private long p50;               // Median execution time (ms)
+    private long p90;               // 90th percentile execution time (ms)
+    private long p99;               // 99th percentile execution time (ms)
+    private long slowCount;         // Calls flagged as slow executions
+    private long errorCount;        // Calls that threw an exception
+
+    public static WindowStatistics empty(long windowSeconds) {
+        return WindowStatistics.builder()
+            .windowSeconds(windowSeconds)
+            .build();
+    }
+}
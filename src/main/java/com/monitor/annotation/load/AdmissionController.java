@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.load;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Global limits shared by all load tests running on this instance: the number of tests that
+ * may run at the same time, the total number of requests in flight across those tests, and
+ * the size of each test's own user thread pool.
+ * Every request permit acquired must be released exactly once when the request completes.
+ */
+@Component
+public class AdmissionController {
+
+    private final int maxConcurrentTests;
+    private final int maxInFlightRequests;
+    private final int maxUserThreadsPerTest;
+    private final Semaphore testPermits;
+    private final Semaphore requestPermits;
+
+    public AdmissionController(
+        @Value("${performance.load.max-concurrent-tests:10}") int maxConcurrentTests,
+        @Value("${performance.load.max-in-flight-requests:5000}") int maxInFlightRequests,
+        @Value("${performance.load.max-user-threads-per-test:200}") int maxUserThreadsPerTest) {
+        this.maxConcurrentTests = maxConcurrentTests;
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.maxUserThreadsPerTest = maxUserThreadsPerTest;
+        this.testPermits = new Semaphore(maxConcurrentTests);
+        this.requestPermits = new Semaphore(maxInFlightRequests);
+    }
+
+    /**
+     * Admits a new test if fewer than the maximum number of tests are running.
+     *
+     * @return Whether the test may start; if true, {@link #endTest()} must be called when it ends
+     */
+    public boolean tryBeginTest() {
+        return testPermits.tryAcquire();
+    }
+
+    public void endTest() {
+        testPermits.release();
+    }
+
+    /**
+     * Takes a request permit without waiting.
+     *
+     * @return Whether the request may be sent
+     */
+    public boolean tryAcquireRequest() {
+        return requestPermits.tryAcquire();
+    }
+
+    /**
+     * Takes a request permit, waiting up to the given time for one to become available.
+     *
+     * @param timeout Maximum time to wait
+     * @param unit Unit of the timeout
+     * @return Whether the request may be sent
+     */
+    public boolean tryAcquireRequest(long timeout, TimeUnit unit) throws InterruptedException {
+        return requestPermits.tryAcquire(timeout, unit);
+    }
+
+    public void releaseRequest() {
+        requestPermits.release();
+    }
+
+    public int getMaxConcurrentTests() {
+        return maxConcurrentTests;
+    }
+
+    public int getRunningTests() {
+        return maxConcurrentTests - testPermits.availablePermits();
+    }
+
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    public int getInFlightRequests() {
+        return maxInFlightRequests - requestPermits.availablePermits();
+    }
+
+    public int getMaxUserThreadsPerTest() {
+        return maxUserThreadsPerTest;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arrival-rate profile for open-model load tests.
+ * The profile is a sequence of stages, each either holding a constant rate or ramping linearly
+ * from the previous stage's rate. Arrival k is scheduled at the time t where the expected number
+ * of arrivals since the start, the integral of the rate, reaches k. For linear stages this has a
+ * closed form, so intended start times never drift however long the test runs.
+ *
+ * Instances are stateful iterators and are not thread-safe; use one per dispatcher.
+ */
+public class ArrivalSchedule {
+
+    private final List<Stage> stages = new ArrayList<>();
+    private double lastRate;
+    private double totalSeconds;
+
+    private int stageIndex;
+    private long nextArrival;
+
+    /**
+     * Creates a schedule with a single constant-rate stage.
+     *
+     * @param requestsPerSecond Arrival rate
+     * @param durationSeconds Duration of the stage
+     * @return New schedule
+     */
+    public static ArrivalSchedule constant(double requestsPerSecond, int durationSeconds) {
+        return new ArrivalSchedule().addStage(durationSeconds, requestsPerSecond, false);
+    }
+
+    /**
+     * Appends a stage to the profile.
+     *
+     * @param durationSeconds Duration of the stage
+     * @param targetRps Rate at the end of the stage
+     * @param ramp true to ramp linearly from the previous rate, false to step to targetRps
+     * @return This schedule
+     * @throws IllegalArgumentException if the duration is not positive or the rate is negative
+     */
+    public ArrivalSchedule addStage(int durationSeconds, double targetRps, boolean ramp) {
+        if (durationSeconds <= 0 || !(targetRps >= 0) || Double.isInfinite(targetRps)) {
+            throw new IllegalArgumentException(
+                "Stage duration must be positive and target rate non-negative: durationSeconds="
+                    + durationSeconds + ", targetRps=" + targetRps);
+        }
+        double startRate = ramp ? lastRate : targetRps;
+        double expectedArrivals = (startRate + targetRps) / 2 * durationSeconds;
+        double arrivalsBefore = stages.isEmpty() ? 0
+            : stages.get(stages.size() - 1).arrivalsBefore
+                + stages.get(stages.size() - 1).expectedArrivals;
+
+        stages.add(new Stage(totalSeconds, durationSeconds, startRate, targetRps, arrivalsBefore,
+            expectedArrivals));
+        totalSeconds += durationSeconds;
+        lastRate = targetRps;
+        return this;
+    }
+
+    /**
+     * Returns the intended start of the next arrival and advances the schedule.
+     *
+     * @return Offset from the test start in nanoseconds, or -1 once the profile is exhausted
+     */
+    public long nextArrivalOffsetNanos() {
+        while (stageIndex < stages.size()) {
+            Stage stage = stages.get(stageIndex);
+            double n = nextArrival - stage.arrivalsBefore;
+            if (n < stage.expectedArrivals) {
+                nextArrival++;
+                double offsetSeconds = stage.startSeconds + stage.timeOfArrival(n);
+                return (long) (offsetSeconds * TimeUnit.SECONDS.toNanos(1));
+            }
+            stageIndex++;
+        }
+        return -1;
+    }
+
+    private static final class Stage {
+
+        private final double startSeconds;
+        private final double durationSeconds;
+        private final double startRate;
+        private final double slope;
+        private final double arrivalsBefore;
+        private final double expectedArrivals;
+
+        private Stage(double startSeconds, double durationSeconds, double startRate,
+            double endRate, double arrivalsBefore, double expectedArrivals) {
+            this.startSeconds = startSeconds;
+            this.durationSeconds = durationSeconds;
+            this.startRate = startRate;
+            this.slope = (endRate - startRate) / durationSeconds;
+            this.arrivalsBefore = arrivalsBefore;
+            this.expectedArrivals = expectedArrivals;
+        }
+
+        /**
+         * Solves startRate * t + slope * t^2 / 2 = n for t within the stage.
+         */
+        private double timeOfArrival(double n) {
+            double t;
+            if (Math.abs(slope) < 1e-9) {
+                t = n / startRate;
+            } else {
+                double discriminant = Math.max(0, startRate * startRate + 2 * slope * n);
+                t = (Math.sqrt(discriminant) - startRate) / slope;
+            }
+            return Math.min(Math.max(0, t), durationSeconds);
+        }
+    }
+}
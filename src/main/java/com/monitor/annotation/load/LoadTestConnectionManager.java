@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.load;
+
+import com.monitor.annotation.metrics.ConnectionStats;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultSchemePortResolver;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.routing.RoutingSupport;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * Keep-alive connection pool used by the blocking request engine.
+ * Replaces the JVM-global http.keepAlive/http.maxConnections properties with an explicit pool
+ * whose limits can be raised per route, which can be pre-connected before a test starts, and
+ * which reports pool wait time, connect time, reuse and churn to the {@link ConnectionStats}
+ * bound to the calling thread.
+ *
+ * The classic client leases, connects and releases on the thread executing the request, so a
+ * thread-local binding is enough to attribute connection activity to the test that caused it.
+ *
+ * Route limits raised for a test only last while the test runs: overlapping tests on the same
+ * route share the largest of their limits, and the route returns to its previous limit once the
+ * last of them has ended.
+ */
+@Slf4j
+public class LoadTestConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final ThreadLocal<ConnectionStats> currentStats = new ThreadLocal<>();
+    private final Timeout connectTimeout;
+    private final TimeValue idleTimeout;
+    private final Map<HttpRoute, RouteLimit> routeLimits = new HashMap<>();  // guarded by this
+
+    /**
+     * @param maxTotal Maximum connections across all routes
+     * @param maxPerRoute Default maximum connections per route
+     * @param tcpNoDelay Whether to disable Nagle's algorithm
+     * @param connectTimeout Connect timeout (also used as the socket timeout)
+     * @param idleTimeout How long a warmed-up connection is kept alive while idle
+     */
+    public LoadTestConnectionManager(int maxTotal, int maxPerRoute, boolean tcpNoDelay,
+        Timeout connectTimeout, TimeValue idleTimeout) {
+        this.connectTimeout = connectTimeout;
+        this.idleTimeout = idleTimeout;
+        setMaxTotal(maxTotal);
+        setDefaultMaxPerRoute(maxPerRoute);
+        setDefaultSocketConfig(SocketConfig.custom()
+            .setTcpNoDelay(tcpNoDelay)
+            .setSoKeepAlive(true)
+            .build());
+        setDefaultConnectionConfig(ConnectionConfig.custom()
+            .setConnectTimeout(connectTimeout)
+            .setSocketTimeout(connectTimeout)
+            .build());
+    }
+
+    /**
+     * Runs a request with its connection activity recorded into the given stats.
+     *
+     * @param stats Stats of the test sending the request, or null to record nothing
+     * @param call Request to execute on the current thread
+     * @return Result of the call
+     */
+    public <T> T recordInto(ConnectionStats stats, Supplier<T> call) {
+        currentStats.set(stats);
+        try {
+            return call.get();
+        } finally {
+            currentStats.remove();
+        }
+    }
+
+    /**
+     * Raises the connection limit of the target's route for a test. Every call must be matched
+     * by {@link #releaseRouteLimit(URI, int)} when the test ends.
+     *
+     * @param target Any URI on the target host
+     * @param maxPerRoute Connection limit the test needs for this route
+     */
+    public synchronized void acquireRouteLimit(URI target, int maxPerRoute) {
+        HttpRoute route = routeFor(target);
+        RouteLimit limit = routeLimits.computeIfAbsent(route,
+            r -> new RouteLimit(getMaxPerRoute(r)));
+        limit.requested.add(maxPerRoute);
+        setMaxPerRoute(route, limit.effective());
+    }
+
+    /**
+     * Gives back a limit taken with {@link #acquireRouteLimit(URI, int)}, restoring the route's
+     * previous limit once no running test needs a raised one.
+     *
+     * @param target Any URI on the target host
+     * @param maxPerRoute Limit given to acquireRouteLimit
+     */
+    public synchronized void releaseRouteLimit(URI target, int maxPerRoute) {
+        HttpRoute route = routeFor(target);
+        RouteLimit limit = routeLimits.get(route);
+        if (limit == null || !limit.requested.remove(Integer.valueOf(maxPerRoute))) {
+            return;
+        }
+        if (limit.requested.isEmpty()) {
+            routeLimits.remove(route);
+            setMaxPerRoute(route, limit.previous);
+        } else {
+            setMaxPerRoute(route, limit.effective());
+        }
+    }
+
+    /**
+     * Opens connections to the target ahead of the test, so the first requests do not pay for
+     * connection setup.
+     *
+     * @param target Any URI on the target host
+     * @param connections Connections to open; capped at the route limit
+     * @return Number of connections open in the pool for the route afterwards
+     */
+    public int warmUp(URI target, int connections) {
+        HttpRoute route = routeFor(target);
+        int count = Math.min(connections, getMaxPerRoute(route));
+        List<ConnectionEndpoint> endpoints = new ArrayList<>(Math.max(count, 0));
+        try {
+            for (int i = 0; i < count; i++) {
+                ConnectionEndpoint endpoint = super.lease("warm-up-" + i, route, connectTimeout, null)
+                    .get(connectTimeout);
+                endpoints.add(endpoint);
+                if (!endpoint.isConnected()) {
+                    super.connect(endpoint, connectTimeout, HttpClientContext.create());
+                }
+            }
+        } catch (IOException | ExecutionException | TimeoutException e) {
+            log.warn("Connection warm-up to {} stopped after {} connections: {}", route,
+                endpoints.size(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            endpoints.forEach(endpoint -> super.release(endpoint, null, idleTimeout));
+        }
+        return getStats(route).getAvailable();
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest leaseRequest = super.lease(id, route, requestTimeout, state);
+        ConnectionStats stats = currentStats.get();
+        if (stats == null) {
+            return leaseRequest;
+        }
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                ConnectionEndpoint endpoint = leaseRequest.get(timeout);
+                stats.recordLease(System.nanoTime() - start, endpoint.isConnected());
+                return endpoint;
+            }
+
+            @Override
+            public boolean cancel() {
+                return leaseRequest.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void connect(ConnectionEndpoint endpoint, TimeValue timeout, HttpContext context)
+        throws IOException {
+        long start = System.nanoTime();
+        super.connect(endpoint, timeout, context);
+        ConnectionStats stats = currentStats.get();
+        if (stats != null) {
+            stats.recordConnect(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void release(ConnectionEndpoint endpoint, Object state, TimeValue keepAlive) {
+        ConnectionStats stats = currentStats.get();
+        if (stats != null && !endpoint.isConnected()) {
+            stats.recordClose();
+        }
+        super.release(endpoint, state, keepAlive);
+    }
+
+    /**
+     * Limits requested for one route by the running tests.
+     */
+    private static final class RouteLimit {
+
+        private final int previous;
+        private final List<Integer> requested = new ArrayList<>();
+
+        private RouteLimit(int previous) {
+            this.previous = previous;
+        }
+
+        private int effective() {
+            return Collections.max(requested);
+        }
+    }
+
+    private HttpRoute routeFor(URI target) {
+        HttpHost host = RoutingSupport.normalize(HttpHost.create(target),
+            DefaultSchemePortResolver.INSTANCE);
+        return new HttpRoute(host, null, URIScheme.HTTPS.same(host.getSchemeName()));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.load;
+
+import com.monitor.annotation.dto.TestScenarioRequest;
+import com.monitor.annotation.metrics.ConnectionStats;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * HTTP client used by the load generator to send test requests.
+ * Blocking engines complete the returned future before send returns and need one thread per
+ * in-flight request; non-blocking engines return immediately and complete the future from
+ * their I/O threads, so the caller must not wait on it while holding a thread per user.
+ * Responses with 4xx/5xx status codes complete the future exceptionally.
+ */
+public interface RequestEngine {
+
+    TestScenarioRequest.Engine type();
+
+    boolean isBlocking();
+
+    /**
+     * Prepares the engine for a test against the given target, e.g. by opening connections
+     * ahead of time. Called once before the first request of the test.
+     *
+     * @param target Target URI of the test
+     * @param request Test configuration
+     */
+    default void prepare(URI target, TestScenarioRequest request) {
+    }
+
+    /**
+     * Undoes what {@link #prepare(URI, TestScenarioRequest)} changed for the test. Called once
+     * after the test has ended, whatever its outcome, if prepare returned normally.
+     *
+     * @param target Target URI of the test
+     * @param request Test configuration
+     */
+    default void finish(URI target, TestScenarioRequest request) {
+    }
+
+    /**
+     * Sends a single request.
+     *
+     * @param uri Target URI
+     * @param method HTTP method
+     * @param requestEntity Headers and optional body
+     * @param connectionStats Connection activity of the test; engines that cannot attribute
+     *                        connections to a test leave it untouched
+     * @return Future completed with the response status code
+     */
+    CompletableFuture<HttpStatusCode> send(URI uri, HttpMethod method, HttpEntity<?> requestEntity,
+        ConnectionStats connectionStats);
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.load;
+
+import com.monitor.annotation.dto.TestScenarioRequest;
+import com.monitor.annotation.metrics.ConnectionStats;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Blocking request engine backed by RestTemplate. Each in-flight request occupies the calling
+ * thread until the response has been read. Connections come from the
+ * {@link LoadTestConnectionManager} pool, which records per-test connection activity.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestTemplateRequestEngine implements RequestEngine {
+
+    private final RestTemplate restTemplate;
+    private final LoadTestConnectionManager connectionManager;
+
+    @Override
+    public TestScenarioRequest.Engine type() {
+        return TestScenarioRequest.Engine.BLOCKING;
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return true;
+    }
+
+    @Override
+    public void prepare(URI target, TestScenarioRequest request) {
+        if (request.getMaxConnectionsPerRoute() > 0) {
+            connectionManager.acquireRouteLimit(target, request.getMaxConnectionsPerRoute());
+        }
+        if (request.getWarmUpConnections() > 0) {
+            int open = connectionManager.warmUp(target, request.getWarmUpConnections());
+            log.info("Warmed up {} idle connections to {}", open, target.getHost());
+        }
+    }
+
+    @Override
+    public void finish(URI target, TestScenarioRequest request) {
+        if (request.getMaxConnectionsPerRoute() > 0) {
+            connectionManager.releaseRouteLimit(target, request.getMaxConnectionsPerRoute());
+        }
+    }
+
+    @Override
+    public CompletableFuture<HttpStatusCode> send(URI uri, HttpMethod method,
+        HttpEntity<?> requestEntity, ConnectionStats connectionStats) {
+        try {
+            return CompletableFuture.completedFuture(connectionManager.recordInto(connectionStats,
+                () -> restTemplate.exchange(uri, method, requestEntity, String.class)
+                    .getStatusCode()));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.load;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Access to virtual threads (JDK 21+) from code compiled for Java 17.
+ * The JDK 21 factory methods are looked up reflectively once; on older runtimes
+ * {@link #isSupported()} returns false and callers fall back to platform threads.
+ */
+@Slf4j
+public final class VirtualThreads {
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor",
+                ThreadFactory.class);
+        } catch (ReflectiveOperationException e) {
+            log.info("Virtual threads are not available on Java {}",
+                System.getProperty("java.specification.version"));
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor that starts a new named virtual thread for each task.
+     *
+     * @param namePrefix Thread name prefix; a counter starting at 0 is appended
+     * @return The executor, or empty if the runtime does not support virtual threads
+     */
+    public static Optional<ExecutorService> newThreadPerTaskExecutor(String namePrefix) {
+        return newThreadPerTaskExecutor(namePrefix, UnaryOperator.identity());
+    }
+
+    /**
+     * Creates an executor that starts a new named virtual thread for each task, from the
+     * virtual thread factory wrapped by the given decorator.
+     *
+     * @param namePrefix Thread name prefix; a counter starting at 0 is appended
+     * @param decorator Wraps the virtual thread factory
+     * @return The executor, or empty if the runtime does not support virtual threads
+     */
+    public static Optional<ExecutorService> newThreadPerTaskExecutor(String namePrefix,
+        UnaryOperator<ThreadFactory> decorator) {
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+        try {
+            Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+            return Optional.of((ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null,
+                decorator.apply(factory)));
+        } catch (ReflectiveOperationException e) {
+            log.warn("Failed to create virtual thread executor: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.load;
+
+import com.monitor.annotation.dto.TestScenarioRequest;
+import com.monitor.annotation.metrics.ConnectionStats;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Non-blocking request engine backed by WebClient on Reactor Netty. Requests are multiplexed
+ * over a small set of event-loop threads, so the number of in-flight requests is limited by
+ * the connection pool rather than by threads.
+ */
+@Component
+public class WebClientRequestEngine implements RequestEngine {
+
+    private final WebClient webClient;
+
+    public WebClientRequestEngine(@Qualifier("loadTestWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    @Override
+    public TestScenarioRequest.Engine type() {
+        return TestScenarioRequest.Engine.REACTIVE;
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return false;
+    }
+
+    @Override
+    public CompletableFuture<HttpStatusCode> send(URI uri, HttpMethod method,
+        HttpEntity<?> requestEntity, ConnectionStats connectionStats) {
+        WebClient.RequestBodySpec spec = webClient.method(method)
+            .uri(uri)
+            .headers(headers -> headers.addAll(requestEntity.getHeaders()));
+
+        WebClient.RequestHeadersSpec<?> exchange = requestEntity.hasBody()
+            ? spec.bodyValue(requestEntity.getBody())
+            : spec;
+
+        return exchange.retrieve()
+            .toBodilessEntity()
+            .map(ResponseEntity::getStatusCode)
+            .toFuture();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import com.monitor.annotation.dto.ConnectionMetrics;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counters for the client-side connection activity of a single load test:
+ * time spent waiting for a pooled connection, time spent opening new ones, and how often
+ * a kept-alive connection was reused instead of opening a new one.
+ */
+public class ConnectionStats {
+
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+
+    private final LongAdder poolWaitNanos = new LongAdder();
+    private final LongAccumulator maxPoolWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder connectNanos = new LongAdder();
+    private final LongAccumulator maxConnectNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a connection taken from the pool.
+     *
+     * @param waitNanos Time spent waiting for the lease
+     * @param reusedConnection Whether the connection was already open
+     */
+    public void recordLease(long waitNanos, boolean reusedConnection) {
+        leases.increment();
+        if (reusedConnection) {
+            reused.increment();
+        }
+        poolWaitNanos.add(waitNanos);
+        maxPoolWaitNanos.accumulate(waitNanos);
+    }
+
+    /**
+     * Records a newly opened connection.
+     *
+     * @param nanos Time spent connecting (including TLS handshake)
+     */
+    public void recordConnect(long nanos) {
+        opened.increment();
+        connectNanos.add(nanos);
+        maxConnectNanos.accumulate(nanos);
+    }
+
+    /**
+     * Records a connection that was closed instead of being returned to the pool.
+     */
+    public void recordClose() {
+        closed.increment();
+    }
+
+    public ConnectionMetrics snapshot() {
+        long leaseCount = leases.sum();
+        long openedCount = opened.sum();
+        return ConnectionMetrics.builder()
+            .leases(leaseCount)
+            .reusedConnections(reused.sum())
+            .openedConnections(openedCount)
+            .closedConnections(closed.sum())
+            .reuseRatio(leaseCount == 0 ? 0.0 : (double) reused.sum() / leaseCount)
+            .averagePoolWaitMs(leaseCount == 0 ? 0.0 : poolWaitNanos.sum() / 1e6 / leaseCount)
+            .maxPoolWaitMs(maxPoolWaitNanos.get() / 1e6)
+            .averageConnectTimeMs(openedCount == 0 ? 0.0 : connectNanos.sum() / 1e6 / openedCount)
+            .maxConnectTimeMs(maxConnectNanos.get() / 1e6)
+            .build();
+    }
+}
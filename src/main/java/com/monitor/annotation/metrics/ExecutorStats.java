@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import com.monitor.annotation.dto.LatencySnapshot;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Lock-free task timings of a single executor. Tasks are timestamped when submitted, when
+ * started and when finished, giving:
+ * - queue wait: time from submission until a pool thread picked the task up
+ * - run time: time the task ran on the pool thread
+ * - rejections
+ * - saturated time: total time during which every worker was busy and a task was waiting for
+ *   one. Tasks submitted while a worker was free are handed off to it and do not count, so
+ *   brief queueing on the way to an idle thread is not reported as saturation
+ *
+ * Hooked into an executor through {@link #taskDecorator()}, which runs on the submitting
+ * thread, and {@link #rejectionHandler(RejectedExecutionHandler)}. Histograms are in
+ * microseconds. Tasks submitted as Callables are wrapped in a FutureTask, which catches their
+ * exceptions, so only failures of plain Runnables are counted.
+ */
+public class ExecutorStats {
+
+    private final LatencyHistogram queueWaitMicros =
+        new LatencyHistogram(TimeUnit.HOURS.toMicros(1), 5);
+    private final LatencyHistogram runTimeMicros =
+        new LatencyHistogram(TimeUnit.HOURS.toMicros(1), 5);
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final IntSupplier workers;
+
+    // Saturation: periods with a non-zero number of tasks that found every worker busy. A
+    // period that ends and a new one that starts at the same moment may be merged, so the
+    // total is approximate.
+    private final AtomicInteger saturatedWaiting = new AtomicInteger();
+    private final LongAdder saturatedNanos = new LongAdder();
+    private volatile long saturatedSinceNanos;
+    private final long createdNanos = System.nanoTime();
+
+    /**
+     * @param workers Number of tasks the executor runs at once before queueing more, such as
+     *                the larger of its pool size and core pool size
+     */
+    public ExecutorStats(IntSupplier workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * @return Decorator timing every task submitted to the executor
+     */
+    public TaskDecorator taskDecorator() {
+        return TimedTask::new;
+    }
+
+    /**
+     * @param delegate Handler applying the executor's rejection policy
+     * @return Handler counting rejections before delegating
+     */
+    public RejectedExecutionHandler rejectionHandler(RejectedExecutionHandler delegate) {
+        return (runnable, executor) -> {
+            rejected.increment();
+            if (runnable instanceof TimedTask task) {
+                task.leaveQueue(System.nanoTime());
+            }
+            delegate.rejectedExecution(runnable, executor);
+        };
+    }
+
+    public LatencySnapshot queueWait() {
+        return queueWaitMicros.snapshot();
+    }
+
+    public LatencySnapshot runTime() {
+        return runTimeMicros.snapshot();
+    }
+
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return Tasks submitted but not yet started
+     */
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    /**
+     * @return Total time with every worker busy and tasks waiting, including the current period
+     */
+    public long saturatedNanos() {
+        long since = saturatedSinceNanos;
+        long current = saturatedWaiting.get() > 0 ? Math.max(System.nanoTime() - since, 0) : 0;
+        return saturatedNanos.sum() + current;
+    }
+
+    /**
+     * @return Time since the executor was instrumented
+     */
+    public long observedNanos() {
+        return System.nanoTime() - createdNanos;
+    }
+
+    /**
+     * @return Whether the task found every worker busy
+     */
+    private boolean enterQueue(long now) {
+        submitted.increment();
+        waiting.incrementAndGet();
+        if (running.get() < workers.getAsInt()) {
+            return false;
+        }
+        if (saturatedWaiting.getAndIncrement() == 0) {
+            saturatedSinceNanos = now;
+        }
+        return true;
+    }
+
+    private void exitQueue(long now, boolean saturated) {
+        waiting.decrementAndGet();
+        if (saturated && saturatedWaiting.decrementAndGet() == 0) {
+            saturatedNanos.add(Math.max(now - saturatedSinceNanos, 0));
+        }
+    }
+
+    private final class TimedTask implements Runnable {
+
+        private final Runnable task;
+        private final long submittedNanos;
+        private final boolean saturated;
+        private boolean dequeued;   // Published to the pool thread by the executor hand-off
+
+        private TimedTask(Runnable task) {
+            this.task = task;
+            this.submittedNanos = System.nanoTime();
+            this.saturated = enterQueue(submittedNanos);
+        }
+
+        private void leaveQueue(long now) {
+            if (!dequeued) {
+                dequeued = true;
+                exitQueue(now, saturated);
+            }
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            running.incrementAndGet();
+            leaveQueue(start);
+            queueWaitMicros.recordValue((start - submittedNanos) / 1_000);
+            boolean success = false;
+            try {
+                task.run();
+                success = true;
+            } finally {
+                running.decrementAndGet();
+                runTimeMicros.recordValue((System.nanoTime() - start) / 1_000);
+                if (success) {
+                    completed.increment();
+                } else {
+                    failed.increment();
+                }
+            }
+        }
+    }
+}
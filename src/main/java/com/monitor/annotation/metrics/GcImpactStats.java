@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import com.monitor.annotation.dto.GcEvent;
+import com.monitor.annotation.dto.GcImpact;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free record of the GC pauses seen by a single load test and of the requests they
+ * stalled. A request counts as affected when a pause was reported between its start and its
+ * completion.
+ */
+public class GcImpactStats {
+
+    private static final int MAX_PAUSES = 256;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder affected = new LongAdder();
+
+    private final LongAdder pauses = new LongAdder();
+    private final LongAdder pauseMillis = new LongAdder();
+    private final LongAccumulator maxPauseMillis = new LongAccumulator(Math::max, 0);
+    private final RingBuffer<GcImpact.Pause> recentPauses = new RingBuffer<>(MAX_PAUSES);
+
+    public void requestStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * @param pausedWhileInFlight Whether a pause was reported while the request was outstanding
+     */
+    public void requestCompleted(boolean pausedWhileInFlight) {
+        inFlight.decrementAndGet();
+        completed.increment();
+        if (pausedWhileInFlight) {
+            affected.increment();
+        }
+    }
+
+    public void recordPause(GcEvent event) {
+        pauses.increment();
+        pauseMillis.add(event.getDurationMillis());
+        maxPauseMillis.accumulate(event.getDurationMillis());
+        recentPauses.add(GcImpact.Pause.builder()
+            .startTime(event.getStartTime())
+            .gcName(event.getGcName())
+            .gcCause(event.getGcCause())
+            .durationMillis(event.getDurationMillis())
+            .reclaimedBytes(event.getReclaimedBytes())
+            .inFlightRequests(Math.max(inFlight.get(), 0))
+            .build());
+    }
+
+    /**
+     * @param includePauses Whether to include the recent pauses or only the totals
+     */
+    public GcImpact snapshot(boolean includePauses) {
+        long completedCount = completed.sum();
+        long affectedCount = affected.sum();
+        return GcImpact.builder()
+            .pauseCount(pauses.sum())
+            .totalPauseMillis(pauseMillis.sum())
+            .maxPauseMillis(maxPauseMillis.get())
+            .affectedRequests(affectedCount)
+            .affectedRequestRatio(
+                completedCount == 0 ? 0.0 : (double) affectedCount / completedCount)
+            .pauses(includePauses ? recentPauses.toList() : null)
+            .build();
+    }
+}
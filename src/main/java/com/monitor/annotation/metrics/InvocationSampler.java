@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which invocations of a monitored method get deep (thread-level) metrics.
+ * Timing is always recorded by the caller; only the expensive part is sampled.
+ *
+ * Two policies are supported:
+ * - Fixed rate: every Nth invocation is sampled
+ * - Adaptive: every invocation earns a budget proportional to its execution time
+ *   (executionTime * maxOverheadPercent / 100), and a sample is taken whenever the budget
+ *   covers the estimated cost of one deep capture. The estimate follows the measured cost.
+ *
+ * All state is updated with atomics, so the sampler adds no locking to the call path.
+ */
+public class InvocationSampler {
+
+    private static final long INITIAL_COST_ESTIMATE_NANOS = 50_000;
+    private static final int MAX_BURST_SAMPLES = 4;
+
+    private final int sampleRate;
+    private final double overheadRatio;
+
+    private final AtomicLong invocationCount = new AtomicLong();
+    private final AtomicLong budgetNanos = new AtomicLong(INITIAL_COST_ESTIMATE_NANOS);
+    private volatile long estimatedCostNanos = INITIAL_COST_ESTIMATE_NANOS;
+
+    /**
+     * @param sampleRate Sample 1 in N invocations (values below 2 sample every call)
+     * @param maxOverheadPercent Adaptive overhead target in percent; 0 uses the fixed rate
+     */
+    public InvocationSampler(int sampleRate, double maxOverheadPercent) {
+        this.sampleRate = Math.max(1, sampleRate);
+        this.overheadRatio = Math.max(0.0, maxOverheadPercent) / 100.0;
+    }
+
+    /**
+     * Decides whether the next invocation should collect deep metrics.
+     * In adaptive mode a positive answer reserves the estimated cost from the budget; the
+     * reservation must be settled with {@link #recordSampleCost(long, long)}.
+     *
+     * @return Reserved budget in nanoseconds (0 in fixed-rate mode) if deep metrics should be
+     *     collected, or -1 if not
+     */
+    public long reserveSample() {
+        if (overheadRatio > 0) {
+            long cost = estimatedCostNanos;
+            long budget = budgetNanos.get();
+            return budget >= cost && budgetNanos.compareAndSet(budget, budget - cost) ? cost : -1;
+        }
+        return sampleRate == 1 || invocationCount.getAndIncrement() % sampleRate == 0 ? 0 : -1;
+    }
+
+    /**
+     * Credits the overhead budget for a finished invocation (adaptive mode only).
+     *
+     * @param executionNanos Execution time of the monitored method
+     */
+    public void recordExecution(long executionNanos) {
+        if (overheadRatio <= 0) {
+            return;
+        }
+        long credit = (long) (executionNanos * overheadRatio);
+        long maxBudget = estimatedCostNanos * MAX_BURST_SAMPLES;
+        budgetNanos.accumulateAndGet(credit, (budget, c) -> Math.min(maxBudget, budget + c));
+    }
+
+    /**
+     * Reports the measured cost of a deep capture, settling the reservation made by
+     * {@link #reserveSample()} and updating the cost estimate (adaptive mode only).
+     *
+     * @param reservedNanos Value returned by reserveSample for this capture
+     * @param costNanos Time spent collecting deep metrics
+     */
+    public void recordSampleCost(long reservedNanos, long costNanos) {
+        if (overheadRatio <= 0) {
+            return;
+        }
+        // The estimate may have moved since the reservation; refund against what was taken
+        budgetNanos.addAndGet(reservedNanos - costNanos);
+        long estimate = estimatedCostNanos;
+        estimatedCostNanos = Math.max(1, (estimate * 7 + costNanos) / 8);
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import com.monitor.annotation.dto.ProfileSummary;
+import com.monitor.annotation.dto.ProfileSummary.AllocationSite;
+import com.monitor.annotation.dto.ProfileSummary.HotMethod;
+import com.monitor.annotation.dto.ProfileSummary.LockContention;
+import com.monitor.annotation.dto.ProfileSummary.WaitKind;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+
+/**
+ * Folds JFR events into per-method, per-site and per-lock counters for a {@link ProfileSummary}.
+ *
+ * Events are delivered by a single recording stream thread; the record methods and
+ * {@link #snapshot(int)} synchronize only so that a snapshot can be taken from another thread.
+ * Each table keeps at most MAX_KEYS distinct keys; further keys are counted under "(other)" so
+ * a long test cannot grow it without bound.
+ *
+ * Parks inside a queue's take or poll are idle workers waiting for tasks rather than lock
+ * contention, and are left out.
+ */
+public class JfrProfileAggregator {
+
+    private static final int MAX_KEYS = 10_000;
+    private static final String OTHER = "(other)";
+    private static final List<String> RUNTIME_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.",
+        "com.sun.");
+
+    private final List<String> excludedThreadPrefixes;
+    private final LocalDateTime startTime = LocalDateTime.now();
+
+    private long executionSamples;
+    private final Map<String, long[]> hotMethods = new HashMap<>();
+    private long allocationBytes;
+    private final Map<AllocationKey, long[]> allocationSites = new HashMap<>();
+    private final Map<LockKey, long[]> locks = new HashMap<>();  // events, total ns, max ns
+    private long gcCount;
+    private long gcPauseNanos;
+    private long longestGcPauseNanos;
+
+    /**
+     * @param excludedThreadPrefixes Events of threads whose name starts with one of these are
+     *                               ignored, such as the load generator's own threads
+     */
+    public JfrProfileAggregator(List<String> excludedThreadPrefixes) {
+        this.excludedThreadPrefixes = List.copyOf(excludedThreadPrefixes);
+    }
+
+    /**
+     * jdk.ExecutionSample
+     */
+    public synchronized void recordExecutionSample(RecordedEvent event) {
+        if (isExcluded(event.getThread("sampledThread"))) {
+            return;
+        }
+        RecordedFrame top = topFrame(event.getStackTrace());
+        if (top == null) {
+            return;
+        }
+        executionSamples++;
+        counters(hotMethods, methodName(top), OTHER, 1)[0]++;
+    }
+
+    /**
+     * jdk.ObjectAllocationSample; the weight is the number of bytes the sample stands for
+     */
+    public synchronized void recordAllocationSample(RecordedEvent event) {
+        if (isExcluded(event.getThread())) {
+            return;
+        }
+        long weight = event.getLong("weight");
+        RecordedClass objectClass = event.getClass("objectClass");
+        AllocationKey key = new AllocationKey(applicationSite(event.getStackTrace()),
+            objectClass != null ? objectClass.getName() : "?");
+        allocationBytes += weight;
+        counters(allocationSites, key, new AllocationKey(OTHER, OTHER), 1)[0] += weight;
+    }
+
+    /**
+     * jdk.JavaMonitorEnter ("monitorClass") and jdk.ThreadPark ("parkedClass")
+     */
+    public synchronized void recordLockWait(RecordedEvent event, WaitKind kind) {
+        if (isExcluded(event.getThread())
+            || (kind == WaitKind.THREAD_PARK && isWaitingForWork(event.getStackTrace()))) {
+            return;
+        }
+        String field = kind == WaitKind.MONITOR_ENTER ? "monitorClass" : "parkedClass";
+        RecordedClass lockClass = event.getClass(field);
+        LockKey key = new LockKey(kind, lockClass != null ? lockClass.getName() : "?",
+            applicationSite(event.getStackTrace()));
+        long nanos = event.getDuration().toNanos();
+
+        long[] counters = counters(locks, key, new LockKey(kind, OTHER, OTHER), 3);
+        counters[0]++;
+        counters[1] += nanos;
+        counters[2] = Math.max(counters[2], nanos);
+    }
+
+    /**
+     * jdk.GarbageCollection
+     */
+    public synchronized void recordGarbageCollection(RecordedEvent event) {
+        Duration sumOfPauses = event.getDuration("sumOfPauses");
+        Duration longestPause = event.getDuration("longestPause");
+        gcCount++;
+        gcPauseNanos += sumOfPauses.toNanos();
+        longestGcPauseNanos = Math.max(longestGcPauseNanos, longestPause.toNanos());
+    }
+
+    /**
+     * @param topN Maximum number of entries in each list
+     */
+    public synchronized ProfileSummary snapshot(int topN) {
+        List<HotMethod> methods = top(hotMethods, topN, entry -> HotMethod.builder()
+            .method(entry.getKey())
+            .samples(entry.getValue()[0])
+            .percent(percent(entry.getValue()[0], executionSamples))
+            .build());
+        List<AllocationSite> sites = top(allocationSites, topN, entry -> AllocationSite.builder()
+            .site(entry.getKey().site)
+            .objectClass(entry.getKey().objectClass)
+            .bytes(entry.getValue()[0])
+            .percent(percent(entry.getValue()[0], allocationBytes))
+            .build());
+        List<LockContention> contention = locks.entrySet().stream()
+            .sorted(Comparator.comparingLong(
+                (Map.Entry<LockKey, long[]> entry) -> entry.getValue()[1]).reversed())
+            .limit(topN)
+            .map(entry -> LockContention.builder()
+                .kind(entry.getKey().kind)
+                .lockClass(entry.getKey().lockClass)
+                .site(entry.getKey().site)
+                .events(entry.getValue()[0])
+                .totalMillis(entry.getValue()[1] / 1_000_000)
+                .maxMillis(entry.getValue()[2] / 1_000_000)
+                .build())
+            .collect(Collectors.toList());
+
+        return ProfileSummary.builder()
+            .startTime(startTime)
+            .endTime(LocalDateTime.now())
+            .executionSamples(executionSamples)
+            .hotMethods(methods)
+            .sampledAllocationBytes(allocationBytes)
+            .allocationSites(sites)
+            .lockContention(contention)
+            .gcCount(gcCount)
+            .totalGcPauseMillis(gcPauseNanos / 1_000_000)
+            .longestGcPauseMillis(longestGcPauseNanos / 1_000_000)
+            .build();
+    }
+
+    private boolean isExcluded(RecordedThread thread) {
+        if (thread == null || thread.getJavaName() == null) {
+            return false;
+        }
+        String name = thread.getJavaName();
+        for (String prefix : excludedThreadPrefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Counters of the key, or of the overflow key once the table is full
+     */
+    private static <K> long[] counters(Map<K, long[]> table, K key, K overflowKey, int size) {
+        long[] counters = table.get(key);
+        if (counters == null) {
+            counters = table.computeIfAbsent(table.size() < MAX_KEYS ? key : overflowKey,
+                k -> new long[size]);
+        }
+        return counters;
+    }
+
+    private static <K, T> List<T> top(Map<K, long[]> table, int topN,
+        Function<Map.Entry<K, long[]>, T> mapper) {
+        return table.entrySet().stream()
+            .sorted(Comparator.comparingLong(
+                (Map.Entry<K, long[]> entry) -> entry.getValue()[0]).reversed())
+            .limit(topN)
+            .map(mapper)
+            .collect(Collectors.toList());
+    }
+
+    private static double percent(long part, long total) {
+        return total == 0 ? 0.0 : part * 100.0 / total;
+    }
+
+    private static RecordedFrame topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return null;
+        }
+        return stackTrace.getFrames().stream()
+            .filter(RecordedFrame::isJavaFrame)
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * Frames inside the JDK say little about which code to change, so sites are attributed to
+     * the first frame outside it, falling back to the top frame.
+     */
+    private static String applicationSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "?";
+        }
+        RecordedFrame site = stackTrace.getFrames().stream()
+            .filter(RecordedFrame::isJavaFrame)
+            .filter(frame -> !isRuntimeFrame(frame))
+            .findFirst()
+            .orElse(stackTrace.getFrames().get(0));
+        return methodName(site) + ":" + site.getLineNumber();
+    }
+
+    /**
+     * @return Whether the thread is parked taking from a queue, such as a pool worker in
+     *     ThreadPoolExecutor.getTask, or is an idle ForkJoinPool worker
+     */
+    private static boolean isWaitingForWork(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return false;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            String method = frame.getMethod().getName();
+            if (!isRuntimeFrame(frame)) {
+                return false;  // Parked by application code before reaching a queue
+            }
+            boolean queueWait = type.endsWith("Queue")
+                && (method.equals("take") || method.equals("poll"));
+            if (queueWait || (type.equals("java.util.concurrent.ForkJoinPool")
+                && method.equals("awaitWork"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRuntimeFrame(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return RUNTIME_PACKAGES.stream().anyMatch(type::startsWith);
+    }
+
+    private static String methodName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    private static final class AllocationKey {
+
+        private final String site;
+        private final String objectClass;
+
+        private AllocationKey(String site, String objectClass) {
+            this.site = site;
+            this.objectClass = objectClass;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof AllocationKey other
+                && site.equals(other.site) && objectClass.equals(other.objectClass);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(site, objectClass);
+        }
+    }
+
+    private static final class LockKey {
+
+        private final WaitKind kind;
+        private final String lockClass;
+        private final String site;
+
+        private LockKey(WaitKind kind, String lockClass, String site) {
+            this.kind = kind;
+            this.lockClass = lockClass;
+            this.site = site;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof LockKey other && kind == other.kind
+                && lockClass.equals(other.lockClass) && site.equals(other.site);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, lockClass, site);
+        }
+    }
+}
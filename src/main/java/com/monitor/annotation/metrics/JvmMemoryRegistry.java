@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import com.monitor.annotation.dto.MemoryPoolMetrics;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Memory pool and garbage collector handles, resolved and classified once at startup so that
+ * sampling reads each bean directly instead of searching them by name.
+ *
+ * Collectors are classified as:
+ * - YOUNG: stop-the-world young collections (Copy, PS Scavenge, ParNew, G1 Young Generation,
+ *   ZGC Minor Pauses)
+ * - OLD: stop-the-world old or full-heap collections (MarkSweepCompact, PS MarkSweep,
+ *   ConcurrentMarkSweep, G1 Old Generation, ZGC Major Pauses, ZGC Pauses, Shenandoah Pauses)
+ * - CONCURRENT: collection cycles running alongside the application (G1 Concurrent GC,
+ *   ZGC Cycles, ZGC Minor/Major Cycles, Shenandoah Cycles)
+ * Unknown collectors are classified by name, defaulting to OLD.
+ *
+ * Heap pools are EDEN (including the ZGC young generation), SURVIVOR or OLD (any other heap
+ * pool, such as Tenured Gen, ZHeap or Shenandoah). Non-heap pools are METASPACE or NON_HEAP.
+ */
+public class JvmMemoryRegistry {
+
+    public enum GcCategory {
+        YOUNG,
+        OLD,
+        CONCURRENT
+    }
+
+    public enum PoolCategory {
+        EDEN,
+        SURVIVOR,
+        OLD,
+        METASPACE,
+        NON_HEAP
+    }
+
+    private static final Map<String, GcCategory> KNOWN_COLLECTORS = Map.ofEntries(
+        Map.entry("Copy", GcCategory.YOUNG),
+        Map.entry("PS Scavenge", GcCategory.YOUNG),
+        Map.entry("ParNew", GcCategory.YOUNG),
+        Map.entry("G1 Young Generation", GcCategory.YOUNG),
+        Map.entry("ZGC Minor Pauses", GcCategory.YOUNG),
+        Map.entry("MarkSweepCompact", GcCategory.OLD),
+        Map.entry("PS MarkSweep", GcCategory.OLD),
+        Map.entry("ConcurrentMarkSweep", GcCategory.OLD),
+        Map.entry("G1 Old Generation", GcCategory.OLD),
+        Map.entry("ZGC Major Pauses", GcCategory.OLD),
+        Map.entry("ZGC Pauses", GcCategory.OLD),
+        Map.entry("Shenandoah Pauses", GcCategory.OLD),
+        Map.entry("G1 Concurrent GC", GcCategory.CONCURRENT),
+        Map.entry("ZGC Cycles", GcCategory.CONCURRENT),
+        Map.entry("ZGC Minor Cycles", GcCategory.CONCURRENT),
+        Map.entry("ZGC Major Cycles", GcCategory.CONCURRENT),
+        Map.entry("Shenandoah Cycles", GcCategory.CONCURRENT)
+    );
+
+    private final List<MemoryPoolMXBean> pools;
+    private final List<PoolCategory> poolCategories;
+    private final Map<PoolCategory, List<MemoryPoolMXBean>> poolsByCategory =
+        new EnumMap<>(PoolCategory.class);
+    private final Map<GcCategory, List<GarbageCollectorMXBean>> collectorsByCategory =
+        new EnumMap<>(GcCategory.class);
+    private final List<MemoryPoolMXBean> allocationPools;
+    private final List<GarbageCollectorMXBean> allocationCollectors;
+
+    // Allocation rate state, guarded by this
+    private long lastTotalAllocated = -1;
+    private long lastAllocationPoolUsed = -1;
+    private long lastGcCount;
+    private long lastSampleNanos;
+
+    public JvmMemoryRegistry(List<MemoryPoolMXBean> pools,
+        List<GarbageCollectorMXBean> collectors) {
+        this.pools = List.copyOf(pools);
+        this.poolCategories = new ArrayList<>(pools.size());
+        for (PoolCategory category : PoolCategory.values()) {
+            poolsByCategory.put(category, new ArrayList<>());
+        }
+        for (GcCategory category : GcCategory.values()) {
+            collectorsByCategory.put(category, new ArrayList<>());
+        }
+
+        for (MemoryPoolMXBean pool : this.pools) {
+            PoolCategory category = classifyPool(pool.getName(), pool.getType());
+            poolCategories.add(category);
+            poolsByCategory.get(category).add(pool);
+        }
+        for (GarbageCollectorMXBean collector : collectors) {
+            collectorsByCategory.get(classifyCollector(collector.getName())).add(collector);
+        }
+
+        // Single-generation collectors (ZGC, Shenandoah) allocate into the whole heap
+        if (!poolsByCategory.get(PoolCategory.EDEN).isEmpty()) {
+            this.allocationPools = poolsByCategory.get(PoolCategory.EDEN);
+            this.allocationCollectors = collectorsByCategory.get(GcCategory.YOUNG);
+        } else {
+            this.allocationPools = new ArrayList<>(poolsByCategory.get(PoolCategory.OLD));
+            this.allocationPools.addAll(poolsByCategory.get(PoolCategory.SURVIVOR));
+            this.allocationCollectors = collectorsByCategory.get(GcCategory.CONCURRENT).isEmpty()
+                ? List.copyOf(collectors) : collectorsByCategory.get(GcCategory.CONCURRENT);
+        }
+    }
+
+    /**
+     * Resolves the pools and collectors of the running JVM.
+     *
+     * @return Registry for this JVM
+     */
+    public static JvmMemoryRegistry resolve() {
+        return new JvmMemoryRegistry(ManagementFactory.getMemoryPoolMXBeans(),
+            ManagementFactory.getGarbageCollectorMXBeans());
+    }
+
+    public static GcCategory classifyCollector(String name) {
+        GcCategory known = KNOWN_COLLECTORS.get(name);
+        if (known != null) {
+            return known;
+        }
+        String lower = name.toLowerCase(Locale.ROOT);
+        if (lower.contains("cycles") || lower.contains("concurrent")) {
+            return GcCategory.CONCURRENT;
+        }
+        if (lower.contains("young") || lower.contains("minor") || lower.contains("scavenge")) {
+            return GcCategory.YOUNG;
+        }
+        return GcCategory.OLD;
+    }
+
+    public static PoolCategory classifyPool(String name, MemoryType type) {
+        if (type == MemoryType.NON_HEAP) {
+            return name.contains("Metaspace") ? PoolCategory.METASPACE : PoolCategory.NON_HEAP;
+        }
+        if (name.contains("Eden") || name.contains("Young Generation")) {
+            return PoolCategory.EDEN;
+        }
+        if (name.contains("Survivor")) {
+            return PoolCategory.SURVIVOR;
+        }
+        return PoolCategory.OLD;
+    }
+
+    /**
+     * @return Bytes used by all pools of the category
+     */
+    public long used(PoolCategory category) {
+        return used(poolsByCategory.get(category));
+    }
+
+    /**
+     * @return Bytes committed by all pools of the category
+     */
+    public long committed(PoolCategory category) {
+        return committed(poolsByCategory.get(category));
+    }
+
+    /**
+     * @return Total number of collections of the category
+     */
+    public long collectionCount(GcCategory category) {
+        return collectionCount(collectorsByCategory.get(category));
+    }
+
+    /**
+     * @return Total collection time of the category in milliseconds
+     */
+    public long collectionTime(GcCategory category) {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : collectorsByCategory.get(category)) {
+            time += Math.max(collector.getCollectionTime(), 0);
+        }
+        return time;
+    }
+
+    /**
+     * @return Current and after-GC usage of every pool
+     */
+    public List<MemoryPoolMetrics> poolMetrics() {
+        List<MemoryPoolMetrics> result = new ArrayList<>(pools.size());
+        for (int i = 0; i < pools.size(); i++) {
+            MemoryPoolMXBean pool = pools.get(i);
+            MemoryUsage usage = pool.getUsage();
+            MemoryUsage afterGc = pool.getCollectionUsage();  // null if unsupported
+            result.add(MemoryPoolMetrics.builder()
+                .name(pool.getName())
+                .category(poolCategories.get(i).name())
+                .used(usage.getUsed())
+                .committed(usage.getCommitted())
+                .max(usage.getMax())
+                .usedAfterGc(afterGc != null ? afterGc.getUsed() : -1)
+                .build());
+        }
+        return result;
+    }
+
+    /**
+     * Measures the allocation rate since the previous call. Intended to be called by a single
+     * periodic sampler.
+     *
+     * The process-wide allocation counter of {@link ThreadAllocation} is exact and is used when
+     * the runtime provides it (JDK 21+). Otherwise the rate is estimated from the growth of the
+     * eden pools (the whole heap for single-generation collectors); if collections happened in
+     * between, the pools are assumed to have been filled to their committed size before each
+     * of them.
+     *
+     * @return Bytes allocated per second, or 0 on the first call
+     */
+    public synchronized double sampleAllocationRate() {
+        long now = System.nanoTime();
+        long totalAllocated = ThreadAllocation.total();
+        long used = totalAllocated < 0 ? used(allocationPools) : 0;
+        long gcCount = totalAllocated < 0 ? collectionCount(allocationCollectors) : 0;
+
+        double rate = 0;
+        if (lastSampleNanos != 0 && now > lastSampleNanos) {
+            long allocated;
+            if (totalAllocated >= 0 && lastTotalAllocated >= 0) {
+                allocated = Math.max(totalAllocated - lastTotalAllocated, 0);
+            } else if (totalAllocated < 0 && lastAllocationPoolUsed >= 0) {
+                long collections = gcCount - lastGcCount;
+                long committed = committed(allocationPools);
+                allocated = collections > 0
+                    ? Math.max(committed - lastAllocationPoolUsed, 0)
+                        + (collections - 1) * committed + used
+                    : Math.max(used - lastAllocationPoolUsed, 0);
+            } else {
+                allocated = 0;
+            }
+            rate = allocated * 1_000_000_000.0 / (now - lastSampleNanos);
+        }
+        lastTotalAllocated = totalAllocated;
+        lastAllocationPoolUsed = totalAllocated < 0 ? used : -1;
+        lastGcCount = gcCount;
+        lastSampleNanos = now;
+        return rate;
+    }
+
+    private static long used(List<MemoryPoolMXBean> pools) {
+        long used = 0;
+        for (MemoryPoolMXBean pool : pools) {
+            used += pool.getUsage().getUsed();
+        }
+        return used;
+    }
+
+    private static long committed(List<MemoryPoolMXBean> pools) {
+        long committed = 0;
+        for (MemoryPoolMXBean pool : pools) {
+            committed += pool.getUsage().getCommitted();
+        }
+        return committed;
+    }
+
+    private static long collectionCount(List<GarbageCollectorMXBean> collectors) {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            count += Math.max(collector.getCollectionCount(), 0);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import com.monitor.annotation.dto.LatencySnapshot;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent, fixed-memory log-linear histogram for latency values.
+ * Values are grouped into power-of-two buckets, each split into 2^subBucketBits linear
+ * sub-buckets, so the relative error of any reported percentile stays below
+ * 1 / 2^subBucketBits (about 3% with the default 5 bits) regardless of the sample count.
+ *
+ * Recording is O(1) and lock-free: every thread writes into one of several striped count
+ * arrays chosen by its thread id, and the stripes are merged only when a snapshot is taken.
+ * Values above the highest trackable value are counted in the last bucket, but the exact
+ * maximum is still tracked separately.
+ */
+public class LatencyHistogram {
+
+    private static final int DEFAULT_SUB_BUCKET_BITS = 5;
+    private static final long DEFAULT_HIGHEST_TRACKABLE_VALUE = TimeUnit.HOURS.toMillis(1);
+    private static final int MAX_STRIPES = 16;
+
+    private final LogLinearBuckets buckets;
+    private final int stripeMask;
+    private final AtomicLongArray[] stripes;
+
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalSum = new LongAdder();
+    private final LongAccumulator minValue = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator maxValue = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    /**
+     * Creates a histogram tracking values up to one hour in milliseconds with ~3% precision.
+     */
+    public LatencyHistogram() {
+        this(DEFAULT_HIGHEST_TRACKABLE_VALUE, DEFAULT_SUB_BUCKET_BITS);
+    }
+
+    /**
+     * Creates a histogram with the given range and precision.
+     *
+     * @param highestTrackableValue Largest value that is bucketed exactly; larger values are clamped
+     * @param subBucketBits Number of linear sub-bucket bits per power of two (1-16)
+     */
+    public LatencyHistogram(long highestTrackableValue, int subBucketBits) {
+        this.buckets = new LogLinearBuckets(highestTrackableValue, subBucketBits);
+
+        int processors = Math.min(MAX_STRIPES, Runtime.getRuntime().availableProcessors());
+        int stripeCount = processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1;
+        this.stripeMask = stripeCount - 1;
+        this.stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicLongArray(buckets.bucketCount());
+        }
+    }
+
+    /**
+     * Records a single value. Negative values are treated as zero.
+     *
+     * @param value Value to record
+     */
+    public void recordValue(long value) {
+        long normalized = Math.max(0, value);
+        int index = buckets.indexOf(normalized);
+        int stripe = (int) (Thread.currentThread().getId() & stripeMask);
+
+        stripes[stripe].incrementAndGet(index);
+        totalCount.increment();
+        totalSum.add(normalized);
+        minValue.accumulate(normalized);
+        maxValue.accumulate(normalized);
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getMin() {
+        return getCount() == 0 ? 0 : minValue.get();
+    }
+
+    public long getMax() {
+        return getCount() == 0 ? 0 : maxValue.get();
+    }
+
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0.0 : (double) totalSum.sum() / count;
+    }
+
+    /**
+     * Merges all stripes and computes summary statistics and percentiles.
+     * Cost is proportional to the number of buckets, not the number of recorded values.
+     *
+     * @return Point-in-time latency summary
+     */
+    public LatencySnapshot snapshot() {
+        long[] counts = new long[buckets.bucketCount()];
+        long count = 0;
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < counts.length; i++) {
+                long bucket = stripe.get(i);
+                counts[i] += bucket;
+                count += bucket;
+            }
+        }
+
+        if (count == 0) {
+            return LatencySnapshot.empty();
+        }
+
+        long min = getMin();
+        long max = getMax();
+        return LatencySnapshot.builder()
+            .count(count)
+            .min(min)
+            .max(max)
+            .mean(getMean())
+            .p50(buckets.valueAtPercentile(counts, count, 50.0, min, max))
+            .p90(buckets.valueAtPercentile(counts, count, 90.0, min, max))
+            .p99(buckets.valueAtPercentile(counts, count, 99.0, min, max))
+            .p999(buckets.valueAtPercentile(counts, count, 99.9, min, max))
+            .build();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+/**
+ * Bucket layout shared by the latency histograms.
+ * Values below 2^subBucketBits get one bucket each; above that, every power of two is split
+ * into 2^subBucketBits linear sub-buckets, so a bucket's width is at most
+ * 1 / 2^subBucketBits of its value.
+ */
+public class LogLinearBuckets {
+
+    private final int subBucketBits;
+    private final int subBucketCount;
+    private final long highestTrackableValue;
+    private final int bucketCount;
+
+    /**
+     * @param highestTrackableValue Largest value that is bucketed exactly; larger values are clamped
+     * @param subBucketBits Number of linear sub-bucket bits per power of two (1-16)
+     */
+    public LogLinearBuckets(long highestTrackableValue, int subBucketBits) {
+        if (subBucketBits < 1 || subBucketBits > 16) {
+            throw new IllegalArgumentException("subBucketBits must be between 1 and 16");
+        }
+        if (highestTrackableValue < 1) {
+            throw new IllegalArgumentException("highestTrackableValue must be positive");
+        }
+        this.subBucketBits = subBucketBits;
+        this.subBucketCount = 1 << subBucketBits;
+        this.highestTrackableValue = highestTrackableValue;
+        this.bucketCount = indexOf(highestTrackableValue) + 1;
+    }
+
+    public int bucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * @param value Non-negative value; values above the trackable range use the last bucket
+     * @return Index of the bucket holding the value
+     */
+    public int indexOf(long value) {
+        long clamped = Math.min(Math.max(0, value), highestTrackableValue);
+        if (clamped < subBucketCount) {
+            return (int) clamped;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(clamped);
+        int shift = exponent - subBucketBits;
+        int mantissa = (int) (clamped >>> shift);  // in [subBucketCount, 2 * subBucketCount)
+        return (shift + 1) * subBucketCount + (mantissa - subBucketCount);
+    }
+
+    /**
+     * @param index Bucket index
+     * @return Largest value that falls into the bucket
+     */
+    public long highestEquivalentValue(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        int shift = index / subBucketCount - 1;
+        long mantissa = (index % subBucketCount) + subBucketCount;
+        return (mantissa << shift) + (1L << shift) - 1;
+    }
+
+    /**
+     * Finds the value at the given percentile of a bucket count array using this layout.
+     * The result is clamped to the observed [min, max] range.
+     *
+     * @param counts Count per bucket
+     * @param total Sum of all counts (must be positive)
+     * @param percentile Percentile in the range 0-100
+     * @param min Smallest observed value
+     * @param max Largest observed value
+     * @return Highest equivalent value of the bucket containing the percentile
+     */
+    public long valueAtPercentile(long[] counts, long total, double percentile, long min,
+        long max) {
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return Math.max(min, Math.min(highestEquivalentValue(i), max));
+            }
+        }
+        return max;
+    }
+}
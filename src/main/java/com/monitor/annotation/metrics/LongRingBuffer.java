@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-capacity, lock-free buffer keeping the most recent long values.
+ * Values are stored unboxed, so adding one allocates nothing and memory stays constant however
+ * many values are added. Sequence numbers and read semantics are those of {@link RingBuffer}.
+ */
+public class LongRingBuffer {
+
+    private final RingSequencer sequencer;
+    private final AtomicLongArray values;
+
+    /**
+     * @param capacity Maximum number of values retained
+     */
+    public LongRingBuffer(int capacity) {
+        this.sequencer = new RingSequencer(capacity);
+        this.values = new AtomicLongArray(capacity);
+    }
+
+    public void add(long value) {
+        long sequence = sequencer.claim();
+        values.set(sequencer.index(sequence), value);
+        sequencer.commit(sequence);
+    }
+
+    public int capacity() {
+        return sequencer.capacity();
+    }
+
+    /**
+     * @see RingBuffer#totalAdded()
+     */
+    public long totalAdded() {
+        return sequencer.published();
+    }
+
+    /**
+     * @return Copy of the retained values, oldest first
+     */
+    public List<Long> toList() {
+        return range(0, Long.MAX_VALUE);
+    }
+
+    /**
+     * @see RingBuffer#range(long, long)
+     */
+    public List<Long> range(long fromSequence, long toSequence) {
+        long added = sequencer.published();
+        long end = Math.min(toSequence, added);
+        long start = Math.max(fromSequence, added - capacity());
+        if (start >= end) {
+            return new ArrayList<>();
+        }
+        List<Long> result = new ArrayList<>((int) (end - start));
+        for (long sequence = start; sequence < end; sequence++) {
+            if (!sequencer.holds(sequence)) {
+                continue;
+            }
+            long value = values.get(sequencer.index(sequence));
+            if (sequencer.holds(sequence)) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import com.monitor.annotation.dto.EndpointStatistics;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free per-phase latency histograms of the requests to one endpoint, in microseconds.
+ * See {@link RequestTimeline} for the phases.
+ */
+public class RequestPhaseStats {
+
+    private final LatencyHistogram parseMicros = newHistogram();
+    private final LatencyHistogram filtersMicros = newHistogram();
+    private final LatencyHistogram readMicros = newHistogram();
+    private final LatencyHistogram handlerMicros = newHistogram();
+    private final LatencyHistogram writeMicros = newHistogram();
+    private final LatencyHistogram flushMicros = newHistogram();
+    private final LatencyHistogram totalMicros = newHistogram();
+    private final LongAdder serverErrors = new LongAdder();
+
+    public void record(RequestTimeline timeline) {
+        parseMicros.recordValue(timeline.parseNanos() / 1_000);
+        filtersMicros.recordValue(timeline.filtersNanos() / 1_000);
+        readMicros.recordValue(timeline.readNanos() / 1_000);
+        handlerMicros.recordValue(timeline.handlerNanos() / 1_000);
+        writeMicros.recordValue(timeline.writeNanos() / 1_000);
+        flushMicros.recordValue(timeline.flushNanos() / 1_000);
+        totalMicros.recordValue(timeline.totalNanos() / 1_000);
+        if (timeline.getStatus() >= 500) {
+            serverErrors.increment();
+        }
+    }
+
+    public EndpointStatistics toStatistics() {
+        return EndpointStatistics.builder()
+            .requestCount(totalMicros.getCount())
+            .serverErrorCount(serverErrors.sum())
+            .parseMicros(parseMicros.snapshot())
+            .filtersMicros(filtersMicros.snapshot())
+            .readMicros(readMicros.snapshot())
+            .handlerMicros(handlerMicros.snapshot())
+            .writeMicros(writeMicros.snapshot())
+            .flushMicros(flushMicros.snapshot())
+            .totalMicros(totalMicros.snapshot())
+            .build();
+    }
+
+    private static LatencyHistogram newHistogram() {
+        return new LatencyHistogram(TimeUnit.HOURS.toMicros(1), 5);
+    }
+}
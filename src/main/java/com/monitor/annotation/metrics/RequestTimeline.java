@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+/**
+ * Timestamps of one servlet request on its way through Tomcat and Spring MVC, from which
+ * {@link RequestPhaseStats} derives the time spent in each phase. Kept as a request attribute
+ * and only touched by the request thread.
+ *
+ * All times are System.nanoTime() values; 0 means the point was not reached.
+ */
+public class RequestTimeline {
+
+    public static final String ATTRIBUTE = RequestTimeline.class.getName();
+
+    private final long receivedNanos;   // Tomcat started reading the request line; -1 if unknown
+    private final long enteredNanos;    // Entered the container pipeline
+    private String endpoint;            // Set only for monitored handlers
+    private long handlerStartNanos;
+    private long readStartNanos;
+    private long readNanos;             // Total request body conversion time
+    private long writeStartNanos;
+    private long handlerEndNanos;
+    private long chainEndNanos;         // Container pipeline returned
+    private long flushedNanos;
+    private int status;
+
+    public RequestTimeline(long receivedNanos, long enteredNanos) {
+        this.receivedNanos = receivedNanos;
+        this.enteredNanos = enteredNanos;
+    }
+
+    /**
+     * Marks the start of a monitored handler. Later dispatches of the same request, such as
+     * error pages, keep the first endpoint.
+     *
+     * @param endpoint HTTP method and mapping pattern of the handler
+     */
+    public void handlerStarted(String endpoint) {
+        if (this.endpoint == null) {
+            this.endpoint = endpoint;
+            this.handlerStartNanos = System.nanoTime();
+        }
+    }
+
+    public void bodyReadStarted() {
+        readStartNanos = System.nanoTime();
+    }
+
+    public void bodyReadFinished() {
+        if (readStartNanos != 0) {
+            readNanos += System.nanoTime() - readStartNanos;
+            readStartNanos = 0;
+        }
+    }
+
+    public void bodyWriteStarted() {
+        if (writeStartNanos == 0) {
+            writeStartNanos = System.nanoTime();
+        }
+    }
+
+    public void handlerFinished() {
+        if (endpoint != null && handlerEndNanos == 0) {
+            handlerEndNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Marks the end of the request.
+     *
+     * @param chainEndNanos When the container pipeline returned
+     * @param flushedNanos When the rest of the response was flushed
+     * @param status Response status
+     */
+    public void completed(long chainEndNanos, long flushedNanos, int status) {
+        this.chainEndNanos = chainEndNanos;
+        this.flushedNanos = flushedNanos;
+        this.status = status;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * @return Reading the request line and headers, until the container pipeline
+     */
+    long parseNanos() {
+        return receivedNanos > 0 ? Math.max(enteredNanos - receivedNanos, 0) : 0;
+    }
+
+    /**
+     * @return Valves, filters and dispatch, on the way in and on the way out
+     */
+    long filtersNanos() {
+        return (handlerStartNanos - enteredNanos) + (chainEndNanos - handlerEnd());
+    }
+
+    /**
+     * @return Request body conversion
+     */
+    long readNanos() {
+        return readNanos;
+    }
+
+    /**
+     * @return Argument resolution other than the body, interceptors and the handler method
+     */
+    long handlerNanos() {
+        long bodyStart = writeStartNanos != 0 ? writeStartNanos : handlerEnd();
+        return Math.max(bodyStart - handlerStartNanos - readNanos, 0);
+    }
+
+    /**
+     * @return Response body conversion, including buffer flushes while writing
+     */
+    long writeNanos() {
+        return writeStartNanos != 0 ? handlerEnd() - writeStartNanos : 0;
+    }
+
+    /**
+     * @return Flushing the rest of the response once the pipeline returned
+     */
+    long flushNanos() {
+        return flushedNanos - chainEndNanos;
+    }
+
+    long totalNanos() {
+        return flushedNanos - (receivedNanos > 0 ? receivedNanos : enteredNanos);
+    }
+
+    private long handlerEnd() {
+        // afterCompletion is skipped when the handler chain fails before reaching it
+        return handlerEndNanos != 0 ? handlerEndNanos : chainEndNanos;
+    }
+}
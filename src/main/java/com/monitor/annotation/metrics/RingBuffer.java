@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-capacity, lock-free buffer keeping the most recent elements.
+ * The backing array is allocated once; writers claim a slot with a single atomic increment
+ * and overwrite the oldest element, without waiting for each other. Reads only see elements
+ * whose writes have completed (see RingSequencer): an element overwritten while it is being
+ * read is skipped, and elements added concurrently appear once every earlier write has
+ * finished.
+ *
+ * @param <T> Element type
+ */
+public class RingBuffer<T> {
+
+    private final RingSequencer sequencer;
+    private final AtomicReferenceArray<T> elements;
+
+    /**
+     * @param capacity Maximum number of elements retained
+     */
+    public RingBuffer(int capacity) {
+        this.sequencer = new RingSequencer(capacity);
+        this.elements = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void add(T element) {
+        long sequence = sequencer.claim();
+        elements.set(sequencer.index(sequence), element);
+        sequencer.commit(sequence);
+    }
+
+    public int capacity() {
+        return sequencer.capacity();
+    }
+
+    /**
+     * Returns the sequence number the next readable element will get, i.e. the number of
+     * elements added so far, including overwritten ones. Elements still being written are not
+     * counted until they are readable.
+     *
+     * @return Total number of elements added
+     */
+    public long totalAdded() {
+        return sequencer.published();
+    }
+
+    /**
+     * Returns the retained elements in insertion order, oldest first.
+     *
+     * @return Copy of the retained elements
+     */
+    public List<T> toList() {
+        return range(0, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the retained elements with sequence numbers in [fromSequence, toSequence), oldest
+     * first. Elements that have already been overwritten are skipped.
+     *
+     * @param fromSequence First sequence number, inclusive
+     * @param toSequence Last sequence number, exclusive; at most {@link #totalAdded()}
+     * @return Copy of the retained elements in the range
+     */
+    public List<T> range(long fromSequence, long toSequence) {
+        long added = sequencer.published();
+        long end = Math.min(toSequence, added);
+        long start = Math.max(fromSequence, added - capacity());  // Oldest retained
+        if (start >= end) {
+            return new ArrayList<>();
+        }
+        List<T> result = new ArrayList<>((int) (end - start));
+        for (long sequence = start; sequence < end; sequence++) {
+            if (!sequencer.holds(sequence)) {
+                continue;
+            }
+            T element = elements.get(sequencer.index(sequence));
+            if (sequencer.holds(sequence)) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+}
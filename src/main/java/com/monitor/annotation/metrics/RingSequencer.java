@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sequence bookkeeping shared by {@link RingBuffer} and {@link LongRingBuffer}, which keep the
+ * values themselves.
+ *
+ * A writer claims the next sequence with one atomic increment, stores its value and then
+ * stamps the slot with its sequence. Stamps only move forward. A value is read only while its
+ * slot carries its own stamp before and after the read, and readers stop at the first sequence
+ * whose write has not completed, so a claimed but unwritten slot is never read as a missing or
+ * previous-lap value. Writers never wait. If a writer is lapped between storing and stamping,
+ * one of the two values is kept under the later sequence and the other is lost.
+ */
+final class RingSequencer {
+
+    private final AtomicLongArray stamps;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();   // Hint for published()
+
+    RingSequencer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.stamps = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            stamps.set(i, i - (long) capacity);   // As if written one lap ago
+        }
+    }
+
+    int capacity() {
+        return stamps.length();
+    }
+
+    int index(long sequence) {
+        return (int) (sequence % stamps.length());
+    }
+
+    /**
+     * Claims the next sequence. The caller stores its value in the slot and then calls
+     * {@link #commit(long)}.
+     */
+    long claim() {
+        return cursor.getAndIncrement();
+    }
+
+    void commit(long sequence) {
+        int index = index(sequence);
+        long stamp;
+        while ((stamp = stamps.get(index)) < sequence) {
+            if (stamps.compareAndSet(index, stamp, sequence)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return Whether the slot of the sequence currently holds that sequence's value
+     */
+    boolean holds(long sequence) {
+        return stamps.get(index(sequence)) == sequence;
+    }
+
+    /**
+     * Returns the number of values whose writes have completed without a gap, which is the
+     * end of the range readers may see. Values claimed after an unfinished write are not
+     * published until it finishes, even if their own writes completed.
+     *
+     * @return Sequence number of the first value not yet published
+     */
+    long published() {
+        long claimed = cursor.get();
+        long hint = published.get();
+        long sequence = hint;
+        // A slot stamped by a later lap also counts as done for the earlier sequence
+        while (sequence < claimed && stamps.get(index(sequence)) >= sequence) {
+            sequence++;
+        }
+        while (sequence > hint && !published.compareAndSet(hint, sequence)) {
+            hint = published.get();
+        }
+        return Math.max(sequence, hint);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import com.monitor.annotation.dto.WindowStatistics;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Execution time aggregates over sliding windows of up to 15 minutes.
+ * Time is divided into 15-second slots kept in a fixed ring. Every slot holds count, sum,
+ * min, max, slow and error counts and a small log-linear histogram (~6% precision), so
+ * recording is O(1) and querying any window merges only the slots it covers.
+ * A slot is cleared lazily by the first writer that reaches it in a new period.
+ *
+ * The rate of calls is taken over the time the window actually covers: the current slot only
+ * up to now, and nothing before the stats were created.
+ */
+public class RollingWindowStats {
+
+    private static final long SLOT_MILLIS = TimeUnit.SECONDS.toMillis(15);
+    private static final int SLOT_COUNT = 60;  // 15 minutes
+    private static final long MIN_RATE_MILLIS = TimeUnit.SECONDS.toMillis(1);
+    private static final LogLinearBuckets BUCKETS =
+        new LogLinearBuckets(TimeUnit.HOURS.toMillis(1), 4);
+
+    private final Slot[] slots = new Slot[SLOT_COUNT];
+    private final LongSupplier clock;
+    private final long startMillis;
+
+    public RollingWindowStats() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock Source of the current time in milliseconds
+     */
+    public RollingWindowStats(LongSupplier clock) {
+        this.clock = clock;
+        this.startMillis = clock.getAsLong();
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    /**
+     * Records one call into the slot of the current period.
+     *
+     * @param executionTime Execution time in milliseconds
+     * @param slow Whether the call was flagged as slow
+     * @param error Whether the call threw an exception
+     */
+    public void record(long executionTime, boolean slow, boolean error) {
+        long epoch = clock.getAsLong() / SLOT_MILLIS;
+        Slot slot = slots[(int) (epoch % SLOT_COUNT)];
+        if (slot.epoch != epoch) {
+            slot.rotate(epoch);
+        }
+        slot.record(Math.max(0, executionTime), slow, error);
+    }
+
+    /**
+     * Aggregates the slots covering the given window, rounded up to whole slots.
+     *
+     * @param window Window length, at most 15 minutes
+     * @return Statistics for the window
+     */
+    public WindowStatistics getStatistics(Duration window) {
+        long windowSlots = Math.min(SLOT_COUNT,
+            Math.max(1, (window.toMillis() + SLOT_MILLIS - 1) / SLOT_MILLIS));
+        long now = clock.getAsLong();
+        long currentEpoch = now / SLOT_MILLIS;
+
+        long[] counts = new long[BUCKETS.bucketCount()];
+        long count = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        long slowCount = 0;
+        long errorCount = 0;
+
+        for (Slot slot : slots) {
+            long epoch = slot.epoch;
+            if (epoch <= currentEpoch - windowSlots || epoch > currentEpoch) {
+                continue;
+            }
+            long slotCount = slot.count.sum();
+            if (slotCount == 0) {
+                continue;
+            }
+            count += slotCount;
+            sum += slot.sum.sum();
+            min = Math.min(min, slot.min.get());
+            max = Math.max(max, slot.max.get());
+            slowCount += slot.slowCount.sum();
+            errorCount += slot.errorCount.sum();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += slot.histogram.get(i);
+            }
+        }
+
+        long windowSeconds = TimeUnit.MILLISECONDS.toSeconds(window.toMillis());
+        if (count == 0) {
+            return WindowStatistics.empty(windowSeconds);
+        }
+
+        long histogramTotal = 0;
+        for (long c : counts) {
+            histogramTotal += c;
+        }
+        // Rates over the first second would be mostly noise
+        long coveredMillis = Math.max(MIN_RATE_MILLIS, Math.min(
+            (windowSlots - 1) * SLOT_MILLIS + now % SLOT_MILLIS, now - startMillis));
+        return WindowStatistics.builder()
+            .windowSeconds(windowSeconds)
+            .count(count)
+            .callsPerSecond(count * 1000.0 / coveredMillis)
+            .mean((double) sum / count)
+            .min(min)
+            .max(max)
+            .p50(BUCKETS.valueAtPercentile(counts, histogramTotal, 50.0, min, max))
+            .p90(BUCKETS.valueAtPercentile(counts, histogramTotal, 90.0, min, max))
+            .p99(BUCKETS.valueAtPercentile(counts, histogramTotal, 99.0, min, max))
+            .slowCount(slowCount)
+            .errorCount(errorCount)
+            .build();
+    }
+
+    private static final class Slot {
+
+        private volatile long epoch = -1;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAdder slowCount = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+        private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS.bucketCount());
+
+        private synchronized void rotate(long newEpoch) {
+            if (epoch >= newEpoch) {
+                return;
+            }
+            count.reset();
+            sum.reset();
+            slowCount.reset();
+            errorCount.reset();
+            min.reset();
+            max.reset();
+            for (int i = 0; i < histogram.length(); i++) {
+                histogram.set(i, 0);
+            }
+            epoch = newEpoch;
+        }
+
+        private void record(long executionTime, boolean slow, boolean error) {
+            count.increment();
+            sum.add(executionTime);
+            min.accumulate(executionTime);
+            max.accumulate(executionTime);
+            histogram.incrementAndGet(BUCKETS.indexOf(executionTime));
+            if (slow) {
+                slowCount.increment();
+            }
+            if (error) {
+                errorCount.increment();
+            }
+        }
+    }
+}
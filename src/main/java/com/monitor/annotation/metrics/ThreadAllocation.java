@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Heap allocation counters of the HotSpot ThreadMXBean (com.sun.management). Each thread
+ * counts the bytes it allocates, at the cost of reading a thread-local field, so the
+ * allocations of a single call are the difference of two readings on its thread.
+ *
+ * The process-wide counter (getTotalThreadAllocatedBytes, JDK 21+) is looked up reflectively
+ * once, as the code is compiled for Java 17. Every method returns -1 when the runtime does not
+ * provide the counter.
+ */
+@Slf4j
+public final class ThreadAllocation {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN;
+    private static final Method TOTAL_ALLOCATED_BYTES;
+
+    static {
+        com.sun.management.ThreadMXBean threadMXBean = null;
+        Method totalAllocatedBytes = null;
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            threadMXBean = bean;
+            try {
+                totalAllocatedBytes = com.sun.management.ThreadMXBean.class
+                    .getMethod("getTotalThreadAllocatedBytes");
+            } catch (NoSuchMethodException e) {
+                log.info("Process-wide allocation counter is not available on Java {}",
+                    System.getProperty("java.specification.version"));
+            }
+        } else {
+            log.info("Thread allocation counters are not supported by this JVM");
+        }
+        THREAD_MX_BEAN = threadMXBean;
+        TOTAL_ALLOCATED_BYTES = totalAllocatedBytes;
+    }
+
+    private ThreadAllocation() {
+    }
+
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN != null;
+    }
+
+    /**
+     * @return Bytes allocated by the calling thread since it started, or -1
+     */
+    public static long currentThread() {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * @param threadId Id of a live thread
+     * @return Bytes allocated by the thread since it started, or -1 if it is not alive
+     */
+    public static long ofThread(long threadId) {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) : -1;
+    }
+
+    /**
+     * @return Bytes allocated by all threads since the JVM started, including threads that
+     *         have terminated, or -1
+     */
+    public static long total() {
+        if (TOTAL_ALLOCATED_BYTES == null) {
+            return -1;
+        }
+        try {
+            return (long) TOTAL_ALLOCATED_BYTES.invoke(THREAD_MX_BEAN);
+        } catch (ReflectiveOperationException e) {
+            return -1;
+        }
+    }
+}
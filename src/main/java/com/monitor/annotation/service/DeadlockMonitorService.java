@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.service;
+
+import com.monitor.annotation.dto.DeadlockEvent;
+import com.monitor.annotation.dto.DeadlockEvent.DeadlockedThread;
+import com.monitor.annotation.dto.DeadlockEvent.Detection;
+import com.monitor.annotation.metrics.RingBuffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Detects deadlocks on an adaptive schedule of its own, instead of on every metrics sample.
+ *
+ * Deadlock detection is a safepoint operation whose cost grows with the number of threads, so
+ * it is tiered:
+ * - The cheap monitor check (findMonitorDeadlockedThreads) runs every min-interval, backing off
+ *   up to max-interval while nothing is found
+ * - The full check (findDeadlockedThreads), which also covers java.util.concurrent locks, runs
+ *   as soon as the JVM-wide BLOCKED thread count rises, at most once per min-full-interval, and
+ *   otherwise every full-interval; threads deadlocked on such locks are WAITING rather than
+ *   BLOCKED, so the periodic full check is still needed
+ *
+ * Every newly found cycle is published once as a {@link DeadlockEvent}, with lock owners and
+ * stacks, to a bounded history and to a live event stream.
+ */
+@Slf4j
+@Service
+public class DeadlockMonitorService {
+
+    private static final int MAX_EVENTS = 64;
+
+    private final ThreadMXBean threadMXBean;
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+    private final long fullIntervalNanos;
+    private final long minFullIntervalNanos;
+    private final ScheduledExecutorService scheduler;
+    private final RingBuffer<DeadlockEvent> events = new RingBuffer<>(MAX_EVENTS);
+    private final Sinks.Many<DeadlockEvent> sink = Sinks.many().multicast().directBestEffort();
+
+    private volatile int deadlockedThreadCount;
+    private volatile boolean fullCheckRequested;
+    private int lastBlockedThreads;         // guarded by this
+    private ScheduledFuture<?> nextCheck;   // guarded by this
+
+    private volatile long lastFullCheckNanos;   // Only written by the checker thread
+
+    // Only touched by the checker thread
+    private final Set<Set<Long>> reportedCycles = new HashSet<>();
+    private long intervalMillis;
+    private int lastFullCheckCount;
+
+    public DeadlockMonitorService(
+        @Value("${performance.metrics.deadlock.min-interval-millis:1000}") long minIntervalMillis,
+        @Value("${performance.metrics.deadlock.max-interval-millis:30000}") long maxIntervalMillis,
+        @Value("${performance.metrics.deadlock.full-interval-millis:60000}")
+        long fullIntervalMillis,
+        @Value("${performance.metrics.deadlock.min-full-interval-millis:5000}")
+        long minFullIntervalMillis) {
+        this.threadMXBean = ManagementFactory.getThreadMXBean();
+        this.minIntervalMillis = Math.max(minIntervalMillis, 100);
+        this.maxIntervalMillis = Math.max(maxIntervalMillis, this.minIntervalMillis);
+        this.fullIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fullIntervalMillis);
+        this.minFullIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minFullIntervalMillis);
+        this.intervalMillis = this.minIntervalMillis;
+        this.lastFullCheckNanos = System.nanoTime()
+            - Math.max(fullIntervalNanos, minFullIntervalNanos);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("DeadlockCheck-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    @PostConstruct
+    public void start() {
+        fullCheckRequested = true;  // Start with a full check
+        scheduleNext(0);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Counts the BLOCKED threads of the whole JVM and reports the count. Reads thread states
+     * only, without stacks or lock details.
+     */
+    public void sampleBlockedThreads() {
+        int blocked = 0;
+        for (ThreadInfo info : threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds(), 0)) {
+            if (info != null && info.getThreadState() == Thread.State.BLOCKED) {
+                blocked++;
+            }
+        }
+        reportBlockedThreads(blocked);
+    }
+
+    /**
+     * Reports the latest count of BLOCKED threads. A rise triggers a full check, immediately or
+     * once min-full-interval has passed since the previous one.
+     *
+     * @param blockedThreads Number of BLOCKED threads in the latest sample
+     */
+    public void reportBlockedThreads(int blockedThreads) {
+        boolean rising;
+        synchronized (this) {
+            rising = blockedThreads > lastBlockedThreads;
+            lastBlockedThreads = blockedThreads;
+        }
+        if (rising) {
+            fullCheckRequested = true;
+            scheduleNoLaterThan(fullCheckDelayMillis(System.nanoTime()));
+        }
+    }
+
+    /**
+     * @return Number of deadlocked threads found by the most recent checks
+     */
+    public int getDeadlockedThreadCount() {
+        return deadlockedThreadCount;
+    }
+
+    /**
+     * @return Recently detected deadlock cycles, oldest first
+     */
+    public List<DeadlockEvent> getRecentEvents() {
+        return events.toList();
+    }
+
+    /**
+     * @return Live stream of newly detected deadlock cycles
+     */
+    public Flux<DeadlockEvent> events() {
+        return sink.asFlux();
+    }
+
+    private synchronized void scheduleNext(long delayMillis) {
+        if (scheduler.isShutdown()) {
+            return;
+        }
+        if (nextCheck != null) {
+            nextCheck.cancel(false);
+        }
+        nextCheck = scheduler.schedule(this::check, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void scheduleNoLaterThan(long delayMillis) {
+        if (nextCheck == null || nextCheck.getDelay(TimeUnit.MILLISECONDS) > delayMillis) {
+            scheduleNext(delayMillis);
+        }
+    }
+
+    /**
+     * @return Time until a requested full check may run
+     */
+    private long fullCheckDelayMillis(long now) {
+        long remaining = minFullIntervalNanos - (now - lastFullCheckNanos);
+        return remaining > 0 ? TimeUnit.NANOSECONDS.toMillis(remaining) + 1 : 0;
+    }
+
+    private void check() {
+        try {
+            long now = System.nanoTime();
+            boolean triggered = fullCheckRequested && fullCheckDelayMillis(now) == 0;
+            boolean full = triggered || now - lastFullCheckNanos >= fullIntervalNanos;
+            if (full) {
+                fullCheckRequested = false;
+            }
+
+            long[] ids = full
+                ? threadMXBean.findDeadlockedThreads()
+                : threadMXBean.findMonitorDeadlockedThreads();
+            int found = ids != null ? ids.length : 0;
+            if (full) {
+                lastFullCheckNanos = now;
+                lastFullCheckCount = found;
+                deadlockedThreadCount = found;
+            } else {
+                // The monitor check cannot see cycles on j.u.c. locks found by the last full check
+                deadlockedThreadCount = Math.max(found, lastFullCheckCount);
+            }
+
+            boolean reported = found > 0 && report(ids, full ? Detection.FULL : Detection.MONITOR);
+            intervalMillis = triggered || reported
+                ? minIntervalMillis
+                : Math.min(intervalMillis * 2, maxIntervalMillis);
+        } catch (Exception e) {
+            log.error("Deadlock check failed", e);
+        } finally {
+            scheduleNext(fullCheckRequested
+                ? Math.min(fullCheckDelayMillis(System.nanoTime()), intervalMillis)
+                : intervalMillis);
+        }
+    }
+
+    /**
+     * Publishes the cycles among the given threads that have not been reported yet.
+     *
+     * @return Whether a new cycle was found
+     */
+    private boolean report(long[] ids, Detection detection) {
+        ThreadInfo[] infos = threadMXBean.getThreadInfo(ids,
+            threadMXBean.isObjectMonitorUsageSupported(),
+            threadMXBean.isSynchronizerUsageSupported());
+        Map<Long, ThreadInfo> byId = new HashMap<>();
+        for (ThreadInfo info : infos) {
+            if (info != null) {
+                byId.put(info.getThreadId(), info);
+            }
+        }
+
+        boolean reported = false;
+        for (List<ThreadInfo> cycle : findCycles(byId)) {
+            Set<Long> key = cycle.stream()
+                .map(ThreadInfo::getThreadId)
+                .collect(Collectors.toCollection(TreeSet::new));
+            if (!reportedCycles.add(key)) {
+                continue;
+            }
+            DeadlockEvent event = DeadlockEvent.builder()
+                .detectedAt(LocalDateTime.now())
+                .detection(detection)
+                .threads(cycle.stream().map(this::toDeadlockedThread).collect(Collectors.toList()))
+                .build();
+            events.add(event);
+            sink.tryEmitNext(event);
+            reported = true;
+            log.error("Deadlock detected ({}): {}", detection, cycle.stream()
+                .map(info -> "\"" + info.getThreadName() + "\" waiting for " + info.getLockName()
+                    + " held by \"" + info.getLockOwnerName() + "\"")
+                .collect(Collectors.joining(", ")));
+        }
+        return reported;
+    }
+
+    /**
+     * Splits deadlocked threads into wait-for cycles by following lock owners.
+     */
+    static List<List<ThreadInfo>> findCycles(Map<Long, ThreadInfo> byId) {
+        List<List<ThreadInfo>> cycles = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        for (Long start : byId.keySet()) {
+            LinkedHashSet<Long> path = new LinkedHashSet<>();
+            Long current = start;
+            while (current != null && !visited.contains(current) && path.add(current)) {
+                ThreadInfo info = byId.get(current);
+                current = info != null ? info.getLockOwnerId() : null;
+            }
+            if (current != null && path.contains(current)) {
+                List<Long> ids = new ArrayList<>(path);
+                cycles.add(ids.subList(ids.indexOf(current), ids.size()).stream()
+                    .map(byId::get)
+                    .collect(Collectors.toList()));
+            }
+            visited.addAll(path);
+        }
+        return cycles;
+    }
+
+    private DeadlockedThread toDeadlockedThread(ThreadInfo info) {
+        return DeadlockedThread.builder()
+            .threadId(info.getThreadId())
+            .threadName(info.getThreadName())
+            .threadState(info.getThreadState())
+            .lockName(info.getLockName())
+            .lockOwnerId(info.getLockOwnerId())
+            .lockOwnerName(info.getLockOwnerName())
+            .lockedMonitors(Arrays.stream(info.getLockedMonitors())
+                .map(LockInfo::toString)
+                .collect(Collectors.toList()))
+            .lockedSynchronizers(Arrays.stream(info.getLockedSynchronizers())
+                .map(LockInfo::toString)
+                .collect(Collectors.toList()))
+            .stackTrace(info.getStackTrace())
+            .build();
+    }
+}
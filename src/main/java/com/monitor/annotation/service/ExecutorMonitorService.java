@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.service;
+
+import com.monitor.annotation.dto.ExecutorMetrics;
+import com.monitor.annotation.dto.MemoryMetrics.ThreadPoolMetrics;
+import com.monitor.annotation.metrics.ExecutorStats;
+import com.monitor.annotation.thread.InvocationContext;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.catalina.connector.Connector;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Monitors the application's executors and reports their pool state and task timings, so
+ * queueing inside the application's own pools can be told apart from slowness of the work the
+ * tasks do.
+ *
+ * Executor beans are registered by the
+ * {@link com.monitor.annotation.config.ExecutorMonitoringPostProcessor}; the common ForkJoinPool
+ * and the Tomcat connector pools are registered here. How much is known depends on the pool:
+ * - ThreadPoolTaskExecutor registered before initialization: task timings through an
+ *   {@link ExecutorStats} decorator, rejections and pool state. Its tasks also run in the
+ *   {@link InvocationContext} of the monitored call that submitted them
+ * - Other ThreadPoolExecutors: rejections and pool state
+ * - ForkJoinPools and Tomcat connector pools: pool state
+ *
+ * Thread states are not tracked per pool; running threads are the active ones, waiting
+ * threads the idle ones.
+ */
+@Slf4j
+@Service
+public class ExecutorMonitorService {
+
+    private final Map<String, Monitored> executors = new ConcurrentHashMap<>();
+
+    public ExecutorMonitorService() {
+        monitor("commonPool", ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Adds task timing and invocation context propagation to an executor. Must be called before
+     * the executor is initialized, as its task decorator and rejection handler are applied when
+     * the pool is created. A task decorator or rejection policy the executor already has is
+     * kept.
+     *
+     * @param name Name to report the executor under
+     * @param executor Executor to instrument
+     * @return The same executor
+     */
+    public ThreadPoolTaskExecutor instrument(String name, ThreadPoolTaskExecutor executor) {
+        // Below the core size every submission starts a new worker
+        ExecutorStats stats = new ExecutorStats(
+            () -> Math.max(executor.getPoolSize(), executor.getCorePoolSize()));
+        DirectFieldAccessor fields = new DirectFieldAccessor(executor);
+        TaskDecorator decorator = (TaskDecorator) fields.getPropertyValue("taskDecorator");
+        RejectedExecutionHandler policy =
+            (RejectedExecutionHandler) fields.getPropertyValue("rejectedExecutionHandler");
+
+        // Timing decorates last, so it also covers the work of the other decorators
+        List<TaskDecorator> decorators = new ArrayList<>();
+        if (decorator != null) {
+            decorators.add(decorator);
+        }
+        decorators.add(InvocationContext.taskDecorator());
+        decorators.add(stats.taskDecorator());
+        executor.setTaskDecorator(new CompositeTaskDecorator(decorators));
+        executor.setRejectedExecutionHandler(stats.rejectionHandler(
+            policy != null ? policy : new ThreadPoolExecutor.AbortPolicy()));
+        register(name, new Monitored(executor, stats, true,
+            () -> ThreadPoolMetrics.from(executor.getThreadPoolExecutor()),
+            () -> capacity(executor.getThreadPoolExecutor().getQueue())));
+        return executor;
+    }
+
+    /**
+     * Reports the state of a running pool and counts its rejections. Its tasks are not timed.
+     *
+     * @param name Name to report the pool under
+     * @param pool Pool to monitor
+     */
+    public void monitor(String name, ThreadPoolExecutor pool) {
+        ExecutorStats stats = new ExecutorStats(
+            () -> Math.max(pool.getPoolSize(), pool.getCorePoolSize()));
+        pool.setRejectedExecutionHandler(
+            stats.rejectionHandler(pool.getRejectedExecutionHandler()));
+        register(name, new Monitored(pool, stats, false,
+            () -> ThreadPoolMetrics.from(pool), () -> capacity(pool.getQueue())));
+    }
+
+    /**
+     * Reports the state of a ForkJoinPool.
+     *
+     * @param name Name to report the pool under
+     * @param pool Pool to monitor
+     */
+    public void monitor(String name, ForkJoinPool pool) {
+        register(name, new Monitored(pool, null, false,
+            () -> ThreadPoolMetrics.from(pool), () -> Integer.MAX_VALUE));
+    }
+
+    /**
+     * @return Whether an executor is already registered under the name
+     */
+    public boolean isMonitored(String name) {
+        return executors.containsKey(name);
+    }
+
+    /**
+     * Registers the worker pools of the Tomcat connectors once the web server is up, as they
+     * are created when the connectors start. Connectors running on virtual threads have no
+     * pool to report.
+     */
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        if (!(event.getWebServer() instanceof TomcatWebServer webServer)) {
+            return;
+        }
+        for (Connector connector : webServer.getTomcat().getService().findConnectors()) {
+            if (connector.getProtocolHandler().getExecutor()
+                instanceof org.apache.tomcat.util.threads.ThreadPoolExecutor pool) {
+                String name = "tomcat-" + connector.getScheme() + "-" + connector.getLocalPort();
+                register(name, new Monitored(pool, null, false,
+                    () -> tomcatPoolMetrics(pool), () -> capacity(pool.getQueue())));
+            }
+        }
+    }
+
+    /**
+     * @return Metrics of every monitored executor by name
+     */
+    public Map<String, ExecutorMetrics> getExecutorMetrics() {
+        Map<String, ExecutorMetrics> result = new LinkedHashMap<>();
+        getThreadPoolMetrics().forEach((name, pool) ->
+            result.put(name, toMetrics(name, executors.get(name), pool)));
+        return result;
+    }
+
+    /**
+     * @return Current pool state of every monitored executor by name
+     */
+    public Map<String, ThreadPoolMetrics> getThreadPoolMetrics() {
+        Map<String, ThreadPoolMetrics> result = new LinkedHashMap<>();
+        executors.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> {
+                try {
+                    result.put(entry.getKey(), entry.getValue().pool.get());
+                } catch (IllegalStateException e) {
+                    // Registered but not initialized yet
+                }
+            });
+        return result;
+    }
+
+    private void register(String name, Monitored monitored) {
+        executors.put(name, monitored);
+        log.debug("Monitoring executor {} ({}, timed={})", name, monitored.type, monitored.timed);
+    }
+
+    private ExecutorMetrics toMetrics(String name, Monitored monitored, ThreadPoolMetrics pool) {
+        ExecutorStats stats = monitored.stats;
+        ExecutorMetrics.ExecutorMetricsBuilder builder = ExecutorMetrics.builder()
+            .name(name)
+            .type(monitored.type)
+            .timed(monitored.timed)
+            .activeThreads(pool.getActiveThreads())
+            .poolSize(pool.getPoolSize())
+            .corePoolSize(pool.getCorePoolSize())
+            .maxPoolSize(pool.getMaxPoolSize())
+            .queueSize(pool.getQueueSize())
+            .queueCapacity(monitored.queueCapacity.getAsInt())
+            .rejectedTasks(stats != null ? stats.getRejected() : 0);
+        if (!monitored.timed) {
+            return builder
+                .submittedTasks(pool.getTaskCount())
+                .completedTasks(pool.getCompletedTaskCount())
+                .waitingTasks(pool.getQueueSize())
+                .build();
+        }
+
+        long saturatedNanos = stats.saturatedNanos();
+        long observedNanos = stats.observedNanos();
+        return builder
+            .submittedTasks(stats.getSubmitted())
+            .completedTasks(stats.getCompleted())
+            .failedTasks(stats.getFailed())
+            .waitingTasks(stats.getWaiting())
+            .queueWaitMicros(stats.queueWait())
+            .runTimeMicros(stats.runTime())
+            .saturatedMillis(saturatedNanos / 1_000_000)
+            .saturationRatio(observedNanos > 0 ? (double) saturatedNanos / observedNanos : 0.0)
+            .build();
+    }
+
+    private static ThreadPoolMetrics tomcatPoolMetrics(
+        org.apache.tomcat.util.threads.ThreadPoolExecutor pool) {
+        int active = pool.getActiveCount();
+        int poolSize = pool.getPoolSize();
+        return ThreadPoolMetrics.builder()
+            .activeThreads(active)
+            .poolSize(poolSize)
+            .corePoolSize(pool.getCorePoolSize())
+            .maxPoolSize(pool.getMaximumPoolSize())
+            .taskCount(pool.getTaskCount())
+            .completedTaskCount(pool.getCompletedTaskCount())
+            .queueSize(pool.getQueue().size())
+            .waitingThreads(Math.max(poolSize - active, 0))
+            .runningThreads(active)
+            .build();
+    }
+
+    private static int capacity(BlockingQueue<?> queue) {
+        long capacity = (long) queue.size() + queue.remainingCapacity();
+        return (int) Math.min(capacity, Integer.MAX_VALUE);
+    }
+
+    private static final class Monitored {
+
+        private final String type;
+        private final ExecutorStats stats;      // null if rejections are not counted
+        private final boolean timed;            // Whether tasks go through the stats decorator
+        private final Supplier<ThreadPoolMetrics> pool;
+        private final IntSupplier queueCapacity;
+
+        private Monitored(Executor executor, ExecutorStats stats, boolean timed,
+            Supplier<ThreadPoolMetrics> pool, IntSupplier queueCapacity) {
+            Class<?> type = executor.getClass();
+            while (type.isAnonymousClass()) {
+                type = type.getSuperclass();    // Pools often subclass to add hooks
+            }
+            this.type = type.getSimpleName();
+            this.stats = stats;
+            this.timed = timed;
+            this.pool = pool;
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
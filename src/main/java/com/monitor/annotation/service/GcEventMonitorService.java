@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.service;
+
+import com.monitor.annotation.dto.GcEvent;
+import com.monitor.annotation.metrics.JvmMemoryRegistry;
+import com.monitor.annotation.metrics.JvmMemoryRegistry.GcCategory;
+import com.monitor.annotation.metrics.RingBuffer;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationFilter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records every garbage collection as a {@link GcEvent}, from the notifications the collector
+ * MXBeans send when a collection ends, instead of inferring collections from polled counters.
+ *
+ * Events keep the cause, action, duration and per-pool usage before and after, and go to a
+ * bounded history and to registered listeners. Whether an event is a pause follows its action
+ * ("end of GC pause" vs "end of GC cycle"), since the pauses of a concurrent collector, such as
+ * the Remark and Cleanup of G1 Concurrent GC, come from the same MXBean as its cycles.
+ * Notifications are delivered on a JMX thread shortly after the collection ends, so
+ * {@link #pauseCount()} can lag a pause by a few milliseconds.
+ */
+@Slf4j
+@Service
+public class GcEventMonitorService {
+
+    private final RingBuffer<GcEvent> history;
+    private final List<Consumer<GcEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong pauseCount = new AtomicLong();
+    private final Set<String> heapPools;
+    private final long jvmStartMillis;
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final NotificationListener notificationListener = this::handleNotification;
+
+    public GcEventMonitorService(
+        @Value("${performance.metrics.gc.event-buffer-size:1024}") int eventBufferSize) {
+        this.history = new RingBuffer<>(eventBufferSize);
+        this.heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .map(MemoryPoolMXBean::getName)
+            .collect(Collectors.toSet());
+        this.jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+
+    @PostConstruct
+    public void start() {
+        NotificationFilter filter = notification -> GarbageCollectionNotificationInfo
+            .GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType());
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(notificationListener, filter, null);
+                emitters.add(emitter);
+            }
+        }
+        log.info("GC event monitor listening to {} collectors", emitters.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(notificationListener);
+            } catch (ListenerNotFoundException e) {
+                // Already removed
+            }
+        }
+        emitters.clear();
+    }
+
+    /**
+     * Registers a callback for every new event. Callbacks run on the JMX notification thread
+     * and must not block.
+     */
+    public void addListener(Consumer<GcEvent> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<GcEvent> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @return Number of stop-the-world pauses reported so far
+     */
+    public long pauseCount() {
+        return pauseCount.get();
+    }
+
+    /**
+     * @return Recent collections, oldest first
+     */
+    public List<GcEvent> getRecentEvents() {
+        return history.toList();
+    }
+
+    private void handleNotification(Notification notification, Object handback) {
+        try {
+            GcEvent event = toEvent(GarbageCollectionNotificationInfo.from(
+                (CompositeData) notification.getUserData()));
+            history.add(event);
+            if (event.isPause()) {
+                pauseCount.incrementAndGet();
+            }
+            for (Consumer<GcEvent> listener : listeners) {
+                listener.accept(event);
+            }
+        } catch (Exception e) {
+            log.error("Failed to record GC notification", e);
+        }
+    }
+
+    private GcEvent toEvent(GarbageCollectionNotificationInfo info) {
+        GcInfo gcInfo = info.getGcInfo();
+        Map<String, Long> before = usedByPool(gcInfo.getMemoryUsageBeforeGc());
+        Map<String, Long> after = usedByPool(gcInfo.getMemoryUsageAfterGc());
+        long reclaimed = 0;
+        for (String pool : heapPools) {
+            reclaimed += before.getOrDefault(pool, 0L) - after.getOrDefault(pool, 0L);
+        }
+
+        GcCategory category = JvmMemoryRegistry.classifyCollector(info.getGcName());
+        return GcEvent.builder()
+            .gcId(gcInfo.getId())
+            .gcName(info.getGcName())
+            .gcAction(info.getGcAction())
+            .gcCause(info.getGcCause())
+            .category(category)
+            .pause(isPause(info.getGcAction(), category))
+            .startTime(LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(jvmStartMillis + gcInfo.getStartTime()),
+                ZoneId.systemDefault()))
+            .durationMillis(gcInfo.getDuration())
+            .usedBefore(before)
+            .usedAfter(after)
+            .reclaimedBytes(reclaimed)
+            .build();
+    }
+
+    /**
+     * @param gcAction e.g. "end of minor GC", "end of concurrent GC pause", "end of GC cycle"
+     */
+    static boolean isPause(String gcAction, GcCategory category) {
+        String action = gcAction != null ? gcAction.toLowerCase(Locale.ROOT) : "";
+        if (action.contains("pause")) {
+            return true;
+        }
+        if (action.contains("cycle")) {
+            return false;
+        }
+        return category != GcCategory.CONCURRENT;
+    }
+
+    private static Map<String, Long> usedByPool(Map<String, MemoryUsage> usage) {
+        Map<String, Long> used = new LinkedHashMap<>();
+        usage.forEach((pool, memoryUsage) -> used.put(pool, memoryUsage.getUsed()));
+        return used;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.service;
+
+import com.monitor.annotation.dto.ProfileSummary;
+import com.monitor.annotation.dto.ProfileSummary.WaitKind;
+import com.monitor.annotation.metrics.JfrProfileAggregator;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Continuous profiling of load tests with an in-process JDK Flight Recorder stream.
+ *
+ * Each profiled test gets its own {@link RecordingStream} with these events enabled:
+ * - jdk.ExecutionSample every execution-sample-millis (hot methods)
+ * - jdk.ObjectAllocationSample, throttled to allocation-samples-per-second (allocation sites)
+ * - jdk.JavaMonitorEnter and jdk.ThreadPark longer than lock-threshold-millis (lock contention;
+ *   parks of idle workers waiting on their task queue are dropped)
+ * - jdk.GarbageCollection
+ * With these settings the recording costs about 1% of CPU. Events are folded into a
+ * {@link JfrProfileAggregator} as they arrive, so nothing but the aggregates is kept in memory,
+ * and the recording's own disk buffer is limited to max-age.
+ *
+ * JFR flushes events about once a second, so the last second of a test may be missing from
+ * its profile.
+ */
+@Slf4j
+@Service
+public class JfrProfilingService {
+
+    private final Duration executionSamplePeriod;
+    private final Duration lockThreshold;
+    private final int allocationSamplesPerSecond;
+    private final int topN;
+    private final List<String> excludedThreadPrefixes;
+    private final boolean available;
+
+    public JfrProfilingService(
+        @Value("${performance.profiling.execution-sample-millis:20}") long executionSampleMillis,
+        @Value("${performance.profiling.lock-threshold-millis:10}") long lockThresholdMillis,
+        @Value("${performance.profiling.allocation-samples-per-second:150}")
+        int allocationSamplesPerSecond,
+        @Value("${performance.profiling.top-n:20}") int topN,
+        @Value("${performance.profiling.excluded-thread-prefixes:PerfTest-,JvmSampler-,"
+            + "DeadlockCheck-,MetricsTick-,MetricsSSE-,MetricsFanout-,MonitorThread-,"
+            + "reactor-http-}")
+        List<String> excludedThreadPrefixes) {
+        this.executionSamplePeriod = Duration.ofMillis(Math.max(executionSampleMillis, 1));
+        this.lockThreshold = Duration.ofMillis(lockThresholdMillis);
+        this.allocationSamplesPerSecond = allocationSamplesPerSecond;
+        this.topN = topN;
+        this.excludedThreadPrefixes = excludedThreadPrefixes;
+        this.available = FlightRecorder.isAvailable();
+        if (!available) {
+            log.info("JDK Flight Recorder is not available; load tests will not be profiled");
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Starts profiling. The returned session must be stopped with {@link #stop(Session)}.
+     *
+     * @param name Recording name, shown in JFR tools
+     * @return Running session, or empty if JFR is not available or could not be started
+     */
+    public Optional<Session> start(String name) {
+        if (!available) {
+            return Optional.empty();
+        }
+        RecordingStream stream = null;
+        try {
+            stream = new RecordingStream();
+            stream.setName(name);
+            stream.setMaxAge(Duration.ofSeconds(30));
+
+            stream.enable("jdk.ExecutionSample").withPeriod(executionSamplePeriod);
+            stream.enable("jdk.ObjectAllocationSample")
+                .with("throttle", allocationSamplesPerSecond + "/s");
+            stream.enable("jdk.JavaMonitorEnter").withThreshold(lockThreshold).withStackTrace();
+            stream.enable("jdk.ThreadPark").withThreshold(lockThreshold).withStackTrace();
+            stream.enable("jdk.GarbageCollection");
+
+            JfrProfileAggregator aggregator = new JfrProfileAggregator(excludedThreadPrefixes);
+            stream.onEvent("jdk.ExecutionSample", aggregator::recordExecutionSample);
+            stream.onEvent("jdk.ObjectAllocationSample", aggregator::recordAllocationSample);
+            stream.onEvent("jdk.JavaMonitorEnter",
+                event -> aggregator.recordLockWait(event, WaitKind.MONITOR_ENTER));
+            stream.onEvent("jdk.ThreadPark",
+                event -> aggregator.recordLockWait(event, WaitKind.THREAD_PARK));
+            stream.onEvent("jdk.GarbageCollection", aggregator::recordGarbageCollection);
+            stream.onError(e -> log.warn("Profiling stream {} failed: {}", name, e.getMessage()));
+
+            stream.startAsync();
+            log.info("Started JFR profiling: {}", name);
+            return Optional.of(new Session(stream, aggregator));
+        } catch (Exception e) {
+            log.warn("Failed to start JFR profiling {}: {}", name, e.getMessage());
+            if (stream != null) {
+                stream.close();
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stops the recording and returns its aggregates.
+     *
+     * @param session Session returned by {@link #start(String)}
+     * @return Profile of the recorded period
+     */
+    public ProfileSummary stop(Session session) {
+        session.stream.close();
+        return session.aggregator.snapshot(topN);
+    }
+
+    /**
+     * A running profiling recording.
+     */
+    public static final class Session {
+
+        private final RecordingStream stream;
+        private final JfrProfileAggregator aggregator;
+
+        private Session(RecordingStream stream, JfrProfileAggregator aggregator) {
+            this.stream = stream;
+            this.aggregator = aggregator;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.service;
+
+import com.monitor.annotation.dto.MemoryMetrics;
+import com.monitor.annotation.metrics.RingBuffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Single background sampler of JVM memory, GC and thread metrics.
+ *
+ * Samples are taken by one daemon thread at a fixed rate and published to a latest-value slot
+ * and a time-series ring. Tests, metrics streams and any number of viewers read the cached
+ * samples, so the MXBean queries run once per interval however many consumers there are.
+ * Each sample also counts the JVM's BLOCKED threads for the {@link DeadlockMonitorService}.
+ *
+ * Each sample gets a sequence number, starting at 0. A consumer remembers
+ * {@link #nextSequence()} and later reads everything sampled since with
+ * {@link #samplesSince(long)}. The ring holds history-minutes of samples at the configured
+ * interval, which bounds the length of a test whose samples are kept in full; samples of
+ * longer tests are dropped oldest first, and the drop is logged.
+ */
+@Slf4j
+@Service
+public class JvmMetricsSampler {
+
+    private static final int MAX_HISTORY_SIZE = 1_000_000;
+
+    private final MemoryMonitorService memoryMonitorService;
+    private final DeadlockMonitorService deadlockMonitorService;
+    private final long intervalMillis;
+    private final RingBuffer<MemoryMetrics> history;
+    private final AtomicReference<MemoryMetrics> latest = new AtomicReference<>();
+    private final ScheduledExecutorService scheduler;
+
+    public JvmMetricsSampler(MemoryMonitorService memoryMonitorService,
+        DeadlockMonitorService deadlockMonitorService,
+        @Value("${performance.metrics.sampler.interval-millis:1000}") long intervalMillis,
+        @Value("${performance.metrics.sampler.history-minutes:60}") long historyMinutes) {
+        this.memoryMonitorService = memoryMonitorService;
+        this.deadlockMonitorService = deadlockMonitorService;
+        this.intervalMillis = Math.max(intervalMillis, 10);
+        long historySize = TimeUnit.MINUTES.toMillis(Math.max(historyMinutes, 1))
+            / this.intervalMillis + 1;
+        this.history = new RingBuffer<>((int) Math.min(historySize, MAX_HISTORY_SIZE));
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("JvmSampler-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    /**
+     * Takes the first sample synchronously, so {@link #getLatest()} never returns null, and
+     * starts periodic sampling.
+     */
+    @PostConstruct
+    public void start() {
+        sample();
+        scheduler.scheduleAtFixedRate(this::sample, intervalMillis, intervalMillis,
+            TimeUnit.MILLISECONDS);
+        log.info("JVM metrics sampler started: interval={}ms, history={} samples",
+            intervalMillis, history.capacity());
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void sample() {
+        try {
+            MemoryMetrics metrics = memoryMonitorService.collectMetrics();
+            history.add(metrics);
+            latest.set(metrics);
+            deadlockMonitorService.sampleBlockedThreads();
+        } catch (Exception e) {
+            log.error("Failed to sample JVM metrics", e);
+        }
+    }
+
+    /**
+     * @return Most recent sample; the same instance until the next sample is taken
+     */
+    public MemoryMetrics getLatest() {
+        return latest.get();
+    }
+
+    /**
+     * @return Sequence number the next sample will get
+     */
+    public long nextSequence() {
+        return history.totalAdded();
+    }
+
+    /**
+     * Returns the retained samples taken since the given sequence number, oldest first.
+     * Logs a warning if older samples have already left the ring.
+     *
+     * @param fromSequence Value of {@link #nextSequence()} when the consumer started
+     * @return Copy of the samples; older ones are missing if they left the ring
+     */
+    public List<MemoryMetrics> samplesSince(long fromSequence) {
+        long end = history.totalAdded();
+        long dropped = droppedSince(fromSequence, end);
+        if (dropped > 0) {
+            log.warn("Dropped the oldest {} of {} JVM samples; raise "
+                + "performance.metrics.sampler.history-minutes to keep them", dropped,
+                end - fromSequence);
+        }
+        return history.range(fromSequence, end);
+    }
+
+    /**
+     * @return Number of samples since the given sequence number that have left the ring
+     */
+    private long droppedSince(long fromSequence, long end) {
+        return Math.max(end - history.capacity() - fromSequence, 0);
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+}
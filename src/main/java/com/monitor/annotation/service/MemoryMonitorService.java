@@ -6,50 +6,58 @@
 package com.monitor.annotation.service;
 
 import com.monitor.annotation.dto.MemoryMetrics;
+import com.monitor.annotation.dto.MemoryPoolMetrics;
 import com.monitor.annotation.dto.ThreadMetrics;
+import com.monitor.annotation.metrics.JvmMemoryRegistry;
+import com.monitor.annotation.metrics.JvmMemoryRegistry.GcCategory;
+import com.monitor.annotation.metrics.JvmMemoryRegistry.PoolCategory;
 import java.time.LocalDateTime;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import java.lang.management.*;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Service for monitoring JVM memory metrics and garbage collection statistics.
  * Collects detailed metrics about:
  * - Heap memory usage (Young/Old generation)
  * - Non-heap memory usage (Metaspace)
- * - Garbage collection activities
- * - Thread pool statistics
+ * - Garbage collection activities (young, old and concurrent, for every supported collector)
+ * - Allocation rate
+ * - Thread pool statistics, of the load-test pool and of every executor known to the
+ *   {@link ExecutorMonitorService}
  */
 @Slf4j
 @Service
 public class MemoryMonitorService {
 
     private final MemoryMXBean memoryMXBean;
-    private final List<MemoryPoolMXBean> memoryPoolMXBeans;
-    private final List<GarbageCollectorMXBean> gcMXBeans;
+    private final JvmMemoryRegistry memoryRegistry;
     private final ThreadMXBean threadMXBean;
     private final ThreadPoolTaskExecutor performanceTestExecutor;
     private final ThreadMonitorService threadMonitorService;
+    private final DeadlockMonitorService deadlockMonitorService;
+    private final ExecutorMonitorService executorMonitorService;
 
     /**
      * Initializes the service with required MXBeans and executors for monitoring.
+     * Memory pools and collectors are resolved and classified once here.
      */
     public MemoryMonitorService(
         @Qualifier("performanceTestExecutor") ThreadPoolTaskExecutor performanceTestExecutor,
-        ThreadMonitorService threadMonitorService
+        ThreadMonitorService threadMonitorService,
+        DeadlockMonitorService deadlockMonitorService,
+        ExecutorMonitorService executorMonitorService
     ) {
         this.memoryMXBean = ManagementFactory.getMemoryMXBean();
-        this.memoryPoolMXBeans = ManagementFactory.getMemoryPoolMXBeans();
-        this.gcMXBeans = ManagementFactory.getGarbageCollectorMXBeans();
+        this.memoryRegistry = JvmMemoryRegistry.resolve();
         this.threadMXBean = ManagementFactory.getThreadMXBean();
         this.performanceTestExecutor = performanceTestExecutor;
         this.threadMonitorService = threadMonitorService;
+        this.deadlockMonitorService = deadlockMonitorService;
+        this.executorMonitorService = executorMonitorService;
     }
 
     /**
@@ -63,10 +71,8 @@ public class MemoryMonitorService {
             // collect base memory metrics
             MemoryMetrics baseMetrics = collectBaseMetrics();
 
-            // collect and integrate threadMetrics
-            ThreadMetrics threadMetrics = threadMonitorService.getMethodMetrics(
-                "PerformanceTestService", "runTest"
-            );
+            // collect and integrate the load-test pool metrics shared by all tests
+            ThreadMetrics threadMetrics = threadMonitorService.getTestPoolMetrics();
 
             // return integrated metrics
             return baseMetrics.withThreadMetrics(threadMetrics);
@@ -87,84 +93,46 @@ public class MemoryMonitorService {
         // non heap
         MemoryUsage nonHeapUsage = memoryMXBean.getNonHeapMemoryUsage();
 
-        // Metaspace
-        Optional<MemoryPoolMXBean> metaspace = memoryPoolMXBeans.stream()
-            .filter(pool -> pool.getName().contains("Metaspace"))
-            .findFirst();
-
-        // collect Young/Old Generation memory usage
-        long youngGenUsed = getMemoryPoolUsage("Eden Space")
-            .map(MemoryUsage::getUsed)
-            .orElse(0L);
-
-        long oldGenUsed = getMemoryPoolUsage("Old Gen")
-            .map(MemoryUsage::getUsed)
-            .orElse(0L);
-
-        // collect GC metrics
-        GCMetrics gcMetrics = collectGCMetrics();
-
         return MemoryMetrics.builder()
             .timestamp(LocalDateTime.now())
             // 힙 메모리
             .heapUsed(heapUsage.getUsed())
             .heapMax(heapUsage.getMax())
-            .youngGenUsed(youngGenUsed)
-            .oldGenUsed(oldGenUsed)
+            .youngGenUsed(memoryRegistry.used(PoolCategory.EDEN)
+                + memoryRegistry.used(PoolCategory.SURVIVOR))
+            .oldGenUsed(memoryRegistry.used(PoolCategory.OLD))
+            .allocationRate(memoryRegistry.sampleAllocationRate())
             // 논힙 메모리
             .nonHeapUsed(nonHeapUsage.getUsed())
             .nonHeapCommitted(nonHeapUsage.getCommitted())
             .nonHeapMax(nonHeapUsage.getMax())
             // 메타스페이스
-            .metaspaceUsed(metaspace.map(pool -> pool.getUsage().getUsed()).orElse(0L))
-            .metaspaceCommitted(metaspace.map(pool -> pool.getUsage().getCommitted()).orElse(0L))
+            .metaspaceUsed(memoryRegistry.used(PoolCategory.METASPACE))
+            .metaspaceCommitted(memoryRegistry.committed(PoolCategory.METASPACE))
             // GC 메트릭
-            .youngGcCount(gcMetrics.youngGcCount)
-            .oldGcCount(gcMetrics.oldGcCount)
-            .youngGcTime(gcMetrics.youngGcTime)
-            .oldGcTime(gcMetrics.oldGcTime)
+            .youngGcCount(memoryRegistry.collectionCount(GcCategory.YOUNG))
+            .oldGcCount(memoryRegistry.collectionCount(GcCategory.OLD))
+            .concurrentGcCount(memoryRegistry.collectionCount(GcCategory.CONCURRENT))
+            .youngGcTime(memoryRegistry.collectionTime(GcCategory.YOUNG))
+            .oldGcTime(memoryRegistry.collectionTime(GcCategory.OLD))
+            .concurrentGcTime(memoryRegistry.collectionTime(GcCategory.CONCURRENT))
             // 스레드 상태
             .threadCount(threadMXBean.getThreadCount())
             .daemonThreadCount(threadMXBean.getDaemonThreadCount())
             .peakThreadCount(threadMXBean.getPeakThreadCount())
-            .deadlockedThreads(Optional.ofNullable(threadMXBean.findDeadlockedThreads())
-                .map(t -> t.length).orElse(0))
+            // Detected on its own schedule; see DeadlockMonitorService
+            .deadlockedThreads(deadlockMonitorService.getDeadlockedThreadCount())
+            // 애플리케이션 스레드 풀
+            .threadPools(executorMonitorService.getThreadPoolMetrics())
             .build();
     }
 
-    @Getter
-    @AllArgsConstructor
-    private static class GCMetrics {
-
-        private final long youngGcCount;
-        private final long oldGcCount;
-        private final long youngGcTime;
-        private final long oldGcTime;
-    }
-
-    private GCMetrics collectGCMetrics() {
-        long youngGcCount = 0;
-        long oldGcCount = 0;
-        long youngGcTime = 0;
-        long oldGcTime = 0;
-
-        for (GarbageCollectorMXBean gcBean : gcMXBeans) {
-            if (gcBean.getName().contains("Young")) {
-                youngGcCount += gcBean.getCollectionCount();
-                youngGcTime += gcBean.getCollectionTime();
-            } else if (gcBean.getName().contains("Old")) {
-                oldGcCount += gcBean.getCollectionCount();
-                oldGcTime += gcBean.getCollectionTime();
-            }
-        }
-
-        return new GCMetrics(youngGcCount, oldGcCount, youngGcTime, oldGcTime);
-    }
-
-    private Optional<MemoryUsage> getMemoryPoolUsage(String poolName) {
-        return memoryPoolMXBeans.stream()
-            .filter(pool -> pool.getName().contains(poolName))
-            .findFirst()
-            .map(MemoryPoolMXBean::getUsage);
+    /**
+     * Returns the current and after-GC usage of every memory pool.
+     *
+     * @return Usage per pool
+     */
+    public List<MemoryPoolMetrics> getMemoryPools() {
+        return memoryRegistry.poolMetrics();
     }
 }
\ No newline at end of file
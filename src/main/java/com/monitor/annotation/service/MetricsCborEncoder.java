@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.service;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.monitor.annotation.dto.MemoryMetrics;
+import com.monitor.annotation.dto.MetricsStreamMessage;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compact binary encoding of metrics stream messages for clients that negotiate it.
+ *
+ * Messages are written as CBOR with the following changes from the JSON form:
+ * - LocalDateTime values are epoch milliseconds instead of ISO strings
+ * - Null fields are omitted
+ * - MemoryMetrics and its ThreadPoolMetrics, including those in the threadPools map, are
+ *   positional arrays in the order below, so the field names are not repeated in every sample
+ *
+ * The field orders are part of the wire format and must match MEMORY_METRICS_FIELDS and
+ * THREAD_POOL_FIELDS in the browser's cbor.js.
+ */
+@Component
+public class MetricsCborEncoder {
+
+    private final CBORMapper mapper;
+
+    public MetricsCborEncoder() {
+        SimpleModule module = new SimpleModule("CompactMetrics");
+        module.addSerializer(LocalDateTime.class, new EpochMillisSerializer());
+        module.setMixInAnnotation(MemoryMetrics.class, MemoryMetricsLayout.class);
+        module.setMixInAnnotation(MemoryMetrics.ThreadPoolMetrics.class, ThreadPoolLayout.class);
+
+        this.mapper = CBORMapper.builder()
+            .addModule(module)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+    }
+
+    public byte[] encode(MetricsStreamMessage message) throws JsonProcessingException {
+        return mapper.writeValueAsBytes(message);
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({
+        "timestamp",
+        "heapUsed", "heapMax", "youngGenUsed", "oldGenUsed",
+        "nonHeapUsed", "nonHeapCommitted", "nonHeapMax", "metaspaceUsed", "metaspaceCommitted",
+        "youngGcCount", "oldGcCount", "youngGcTime", "oldGcTime",
+        "threadCount", "daemonThreadCount", "peakThreadCount", "deadlockedThreads",
+        "performanceThreadPool",
+        "allocationRate", "concurrentGcCount", "concurrentGcTime",
+        "threadPools"
+    })
+    private abstract static class MemoryMetricsLayout {
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({
+        "activeThreads", "poolSize", "corePoolSize", "maxPoolSize", "taskCount",
+        "completedTaskCount", "queueSize", "waitingThreads", "blockedThreads", "runningThreads"
+    })
+    private abstract static class ThreadPoolLayout {
+    }
+
+    private static final class EpochMillisSerializer extends StdSerializer<LocalDateTime> {
+
+        private EpochMillisSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            gen.writeNumber(value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+}
@@ -0,0 +1,660 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monitor.annotation.dto.MemoryMetrics;
+import com.monitor.annotation.dto.MetricsStreamMessage;
+import com.monitor.annotation.dto.MetricsStreamMessage.MessageType;
+import com.monitor.annotation.dto.MetricsStreamMessage.TestStatus;
+import com.monitor.annotation.dto.TestProgress;
+import com.monitor.annotation.dto.TestResult;
+import com.monitor.annotation.dto.ThreadMetrics;
+import com.monitor.annotation.metrics.RingBuffer;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * Fans the per-test metrics stream out to any number of SSE and WebSocket subscribers.
+ *
+ * Each test with at least one subscriber has a single publisher that, once per tick, reads the
+ * latest shared JVM sample, builds the next delta and encodes it to JSON once. The same encoded
+ * event is queued to every subscriber, so additional viewers cost one queue entry each rather
+ * than a metrics collection and a serialization. Subscribers that are new, or whose resume token is no longer
+ * covered by the recent history, are sent a snapshot encoded at most once per tick. The compact
+ * binary form of a message is likewise encoded once, and only if a WebSocket client asked for
+ * it.
+ *
+ * Servlet SSE and WebSocket subscribers are written to from the fan-out executor with at most
+ * {@value #MAX_QUEUED_FRAMES} events queued. A slow client that exceeds this has its backlog
+ * dropped and is resynchronized with a snapshot on the next tick, so it never delays the
+ * publisher or other subscribers. Reactive subscribers are conflated by demand instead: an
+ * event is only emitted when requested, and a client that fell behind gets the latest
+ * snapshot.
+ */
+@Slf4j
+@Service
+public class MetricsStreamHub {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 180_000L;  // 3분 타임아웃
+    private static final int MAX_QUEUED_FRAMES = 4;
+    private static final long RESUME_WINDOW_MILLIS = 60_000L;
+
+    private final PerformanceTestService performanceTestService;
+    private final JvmMetricsSampler jvmMetricsSampler;
+    private final ThreadMonitorService threadMonitorService;
+    private final ObjectMapper objectMapper;
+    private final MetricsCborEncoder cborEncoder;
+    private final TaskScheduler taskScheduler;
+    private final Executor fanoutExecutor;
+    private final Duration tick;
+    private final int historyFrames;
+
+    private final Map<String, TestPublisher> publishers = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong();
+
+    public MetricsStreamHub(PerformanceTestService performanceTestService,
+        JvmMetricsSampler jvmMetricsSampler, ThreadMonitorService threadMonitorService,
+        ObjectMapper objectMapper, MetricsCborEncoder cborEncoder,
+        @Qualifier("metricsStreamScheduler") TaskScheduler taskScheduler,
+        @Qualifier("metricsFanoutExecutor") Executor fanoutExecutor,
+        @Value("${performance.metrics.stream.tick-millis:1000}") long tickMillis) {
+        this.performanceTestService = performanceTestService;
+        this.jvmMetricsSampler = jvmMetricsSampler;
+        this.threadMonitorService = threadMonitorService;
+        this.objectMapper = objectMapper;
+        this.cborEncoder = cborEncoder;
+        this.taskScheduler = taskScheduler;
+        this.fanoutExecutor = fanoutExecutor;
+        this.tick = Duration.ofMillis(Math.max(tickMillis, 10));
+        this.historyFrames = (int) Math.max(1, RESUME_WINDOW_MILLIS / this.tick.toMillis());
+    }
+
+    /**
+     * Subscribes to the metrics stream of a test.
+     *
+     * @param testId Test identifier
+     * @param lastEventId Last event id received by a reconnecting client, or null
+     * @return Emitter receiving the stream
+     */
+    public SseEmitter subscribe(String testId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        Subscriber subscriber = new SseSubscriber(testId, emitter, lastEventId);
+
+        emitter.onCompletion(() -> {
+            log.info("Metrics stream completed for test: {}", testId);
+            subscriber.close();
+        });
+        emitter.onTimeout(() -> {
+            log.warn("Metrics stream timed out for test: {}", testId);
+            subscriber.close();
+        });
+        emitter.onError(ex -> {
+            log.debug("Error in metrics stream for test: {}: {}", testId, ex.getMessage());
+            subscriber.close();
+        });
+
+        register(subscriber);
+        log.info("Started metrics stream for test: {}", testId);
+        return emitter;
+    }
+
+    /**
+     * Subscribes to the metrics stream of a test as a reactive stream. No thread is held
+     * while the client is idle, and a client that requests slower than the tick rate receives
+     * the latest state instead of a growing backlog.
+     *
+     * @param testId Test identifier
+     * @param lastEventId Last event id received by a reconnecting client, or null
+     * @return Stream of encoded server-sent events
+     */
+    public Flux<ServerSentEvent<String>> subscribeFlux(String testId, String lastEventId) {
+        return Flux.<ServerSentEvent<String>>create(sink -> {
+            Subscriber subscriber = new FluxSubscriber(testId, sink, lastEventId);
+            sink.onDispose(subscriber::close);
+            register(subscriber);
+            log.info("Started reactive metrics stream for test: {}", testId);
+        }, FluxSink.OverflowStrategy.LATEST)
+            .take(Duration.ofMillis(EMITTER_TIMEOUT_MILLIS));
+    }
+
+    /**
+     * Subscribes a WebSocket session to the metrics stream of a test. Each message carries its
+     * resume token in the id field.
+     *
+     * @param testId Test identifier
+     * @param session Open WebSocket session
+     * @param binary Whether to send compact CBOR binary messages instead of JSON text messages
+     * @param lastEventId Last message id received by a reconnecting client, or null
+     * @return Callback ending the subscription, to be run when the session closes
+     */
+    public Runnable subscribe(String testId, WebSocketSession session, boolean binary,
+        String lastEventId) {
+        Subscriber subscriber = new WebSocketSubscriber(testId, session, binary, lastEventId);
+        register(subscriber);
+        log.info("Started {} WebSocket metrics stream for test: {}", binary ? "CBOR" : "JSON",
+            testId);
+        return subscriber::close;
+    }
+
+    private void register(Subscriber subscriber) {
+        while (true) {
+            TestPublisher publisher = publishers.computeIfAbsent(subscriber.testId,
+                id -> new TestPublisher(id, generations.incrementAndGet()));
+            if (publisher.add(subscriber)) {
+                publisher.startIfNeeded();
+                return;
+            }
+            publishers.remove(subscriber.testId, publisher);  // stopped concurrently
+        }
+    }
+
+    public int getSubscriberCount(String testId) {
+        TestPublisher publisher = publishers.get(testId);
+        return publisher != null ? publisher.subscribers.size() : 0;
+    }
+
+    private static TestStatus toStreamStatus(TestResult testResult) {
+        switch (testResult.getStatus()) {
+            case "START_TEST":
+                return TestStatus.START_TEST;
+            case "STOP_TEST":
+                return TestStatus.STOP_TEST;
+            default:
+                return testResult.isCompleted() ? TestStatus.COMPLETED : TestStatus.RUNNING;
+        }
+    }
+
+    /**
+     * One encoded event shared by all subscribers, in the servlet, reactive and WebSocket
+     * forms. The binary form is encoded on first use.
+     */
+    private final class Frame {
+
+        private final long sequence;
+        private final boolean snapshot;
+        private final String json;
+        private final Set<ResponseBodyEmitter.DataWithMediaType> event;
+        private final ServerSentEvent<String> serverSentEvent;
+        private MetricsStreamMessage message;  // guarded by this; dropped once encoded
+        private byte[] cbor;                   // guarded by this
+
+        private Frame(long sequence, boolean snapshot, MetricsStreamMessage message, String json) {
+            this.sequence = sequence;
+            this.snapshot = snapshot;
+            this.json = json;
+            this.message = message;
+            this.event = SseEmitter.event().id(message.getId())
+                .data(json, MediaType.APPLICATION_JSON).build();
+            this.serverSentEvent = ServerSentEvent.builder(json).id(message.getId()).build();
+        }
+
+        synchronized byte[] cbor() throws JsonProcessingException {
+            if (cbor == null) {
+                cbor = cborEncoder.encode(message);
+                message = null;
+            }
+            return cbor;
+        }
+    }
+
+    /**
+     * Produces the stream of one test. The tick state is only touched by the scheduled tick.
+     */
+    private final class TestPublisher {
+
+        private final String testId;
+        private final long generation;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final RingBuffer<Frame> history = new RingBuffer<>(historyFrames);
+        private final AtomicBoolean started = new AtomicBoolean();
+        private boolean stopped;  // guarded by this
+        private volatile ScheduledFuture<?> task;
+
+        private long sequence;
+        private TestResult source;
+        private int memoryIndex;
+        private long responseSequence;
+        private MemoryMetrics lastSample;
+
+        private TestPublisher(String testId, long generation) {
+            this.testId = testId;
+            this.generation = generation;
+        }
+
+        synchronized boolean add(Subscriber subscriber) {
+            if (stopped) {
+                return false;
+            }
+            subscriber.publisher = this;
+            subscribers.add(subscriber);
+            return true;
+        }
+
+        void remove(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+        }
+
+        void startIfNeeded() {
+            if (started.compareAndSet(false, true)) {
+                log.info("Starting metrics publisher for test: {}", testId);
+                task = taskScheduler.scheduleWithFixedDelay(this::tick, tick);
+            }
+        }
+
+        private synchronized boolean stopIfIdle() {
+            if (subscribers.isEmpty()) {
+                stop();
+                return true;
+            }
+            return false;
+        }
+
+        private synchronized void stop() {
+            stopped = true;
+            publishers.remove(testId, this);
+            ScheduledFuture<?> scheduled = task;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+
+        private void tick() {
+            try {
+                TestResult testResult = performanceTestService.getTestStatus(testId);
+                if (testResult == null) {
+                    log.warn("No test result found for test: {}", testId);
+                    stop();
+                    subscribers.forEach(Subscriber::completeWhenDrained);
+                    return;
+                }
+                if (stopIfIdle()) {
+                    return;
+                }
+                publish(testResult);
+            } catch (Exception e) {
+                log.error("Error publishing metrics for test: {}", testId, e);
+            }
+        }
+
+        private void publish(TestResult testResult) throws JsonProcessingException {
+            // Ticks may be faster than the sampler; record each shared sample once
+            MemoryMetrics metrics = jvmMetricsSampler.getLatest();
+            if (metrics != lastSample) {
+                testResult.addMemoryMetric(metrics);
+                lastSample = metrics;
+            }
+
+            ThreadMetrics threadMetrics = null;
+            if (!testResult.isCompleted()) {
+                threadMetrics = threadMonitorService.getMethodMetrics(testId);
+                if (threadMetrics != null) {
+                    testResult.updateThreadMetrics(threadMetrics);
+                }
+            }
+            TestStatus status = toStreamStatus(testResult);
+
+            long seq = ++sequence;
+            long nextResponseSequence = testResult.responseTimeSequence();
+
+            // A replaced result object (on completion) has no delta; everyone gets a snapshot
+            Frame delta = null;
+            if (source == testResult) {
+                delta = encode(seq, false, MetricsStreamMessage.builder()
+                    .type(MessageType.DELTA)
+                    .status(status)
+                    .progress(TestProgress.of(testResult))
+                    .memoryMetrics(testResult.memoryMetricsSince(memoryIndex))
+                    .responseTimes(
+                        testResult.responseTimesBetween(responseSequence, nextResponseSequence))
+                    .threadMetrics(threadMetrics)
+                    .metrics(metrics));
+                history.add(delta);
+            }
+            source = testResult;
+            memoryIndex = testResult.memoryMetricCount();
+            responseSequence = nextResponseSequence;
+
+            Frame snapshot = null;
+            boolean completed = testResult.isCompleted();
+            for (Subscriber subscriber : subscribers) {
+                List<Frame> frames = delta != null && !subscriber.needsSnapshot
+                    ? subscriber.framesToSend(this, delta) : null;
+                if (frames != null) {
+                    frames.forEach(subscriber::offer);
+                }
+                // On the last tick a subscriber whose backlog was just dropped needs the snapshot
+                if (frames == null || (completed && subscriber.needsSnapshot)) {
+                    if (snapshot == null) {
+                        snapshot = encode(seq, true, MetricsStreamMessage.builder()
+                            .type(MessageType.SNAPSHOT)
+                            .status(status)
+                            .testStatus(testResult)
+                            .threadMetrics(threadMetrics)
+                            .metrics(metrics));
+                    }
+                    subscriber.needsSnapshot = false;
+                    subscriber.offer(snapshot);
+                }
+            }
+
+            if (completed) {
+                log.info("Test completed, closing streams for test: {}", testId);
+                stop();
+                subscribers.forEach(Subscriber::completeWhenDrained);
+            }
+        }
+
+        /**
+         * Returns the recent deltas after the given sequence, or null if they are not all
+         * retained in the history.
+         */
+        private List<Frame> replayAfter(long resumeSequence, Frame current) {
+            List<Frame> frames = history.toList();
+            frames.removeIf(frame -> frame.sequence <= resumeSequence);
+            if (frames.isEmpty() || frames.get(0).sequence != resumeSequence + 1) {
+                return null;
+            }
+            for (int i = 1; i < frames.size(); i++) {
+                if (frames.get(i).sequence != frames.get(i - 1).sequence + 1) {
+                    return null;
+                }
+            }
+            return frames.get(frames.size() - 1) == current ? frames : null;
+        }
+
+        private Frame encode(long seq, boolean isSnapshot,
+            MetricsStreamMessage.MetricsStreamMessageBuilder builder)
+            throws JsonProcessingException {
+            MetricsStreamMessage message = builder.id(generation + "-" + seq).build();
+            return new Frame(seq, isSnapshot, message, objectMapper.writeValueAsString(message));
+        }
+    }
+
+    /**
+     * One client of a test's stream. Tracks resume state and whether the client must be
+     * resynchronized with a snapshot; subclasses deliver the frames.
+     */
+    private abstract class Subscriber {
+
+        protected final String testId;
+        private long resumeGeneration = -1;
+        private long resumeSequence = -1;
+        protected volatile boolean needsSnapshot;
+        protected volatile boolean closed;
+        private volatile TestPublisher publisher;
+
+        private Subscriber(String testId, String lastEventId) {
+            this.testId = testId;
+            parseResumeToken(lastEventId);
+            // A client joining without a resume token starts from the full state
+            this.needsSnapshot = resumeGeneration < 0;
+        }
+
+        private void parseResumeToken(String lastEventId) {
+            if (lastEventId == null || lastEventId.isBlank()) {
+                return;
+            }
+            String[] parts = lastEventId.trim().split("-");
+            try {
+                if (parts.length == 2) {
+                    resumeGeneration = Long.parseLong(parts[0]);
+                    resumeSequence = Long.parseLong(parts[1]);
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring malformed resume token: {}", lastEventId);
+                resumeGeneration = -1;
+            }
+        }
+
+        /**
+         * Returns the frames to send this tick: the current delta, or for a resuming client
+         * the missed deltas. Returns null when a snapshot is required instead. Only called once
+         * the subscriber has been sent a snapshot or holds a resume token.
+         */
+        private List<Frame> framesToSend(TestPublisher source, Frame delta) {
+            if (resumeGeneration < 0) {
+                return List.of(delta);
+            }
+            List<Frame> replay = resumeGeneration == source.generation
+                ? source.replayAfter(resumeSequence, delta) : null;
+            resumeGeneration = -1;
+            return replay;
+        }
+
+        abstract void offer(Frame frame);
+
+        abstract void completeWhenDrained();
+
+        void close() {
+            closed = true;
+            TestPublisher current = publisher;
+            if (current != null) {
+                current.remove(this);
+            }
+        }
+    }
+
+    /**
+     * Client with its own bounded queue of encoded events, written from the fan-out executor.
+     * Subclasses perform the blocking write and the completion.
+     */
+    private abstract class QueuedSubscriber extends Subscriber {
+
+        private final Queue<Frame> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean completeWhenDrained;
+
+        private QueuedSubscriber(String testId, String lastEventId) {
+            super(testId, lastEventId);
+        }
+
+        abstract void send(Frame frame) throws IOException;
+
+        abstract void complete();
+
+        @Override
+        void offer(Frame frame) {
+            if (closed) {
+                return;
+            }
+            if (queued.incrementAndGet() > MAX_QUEUED_FRAMES) {
+                // Slow client: drop the backlog; a snapshot resynchronizes it
+                queued.decrementAndGet();
+                while (queue.poll() != null) {
+                    queued.decrementAndGet();
+                }
+                if (!frame.snapshot) {
+                    needsSnapshot = true;
+                    return;
+                }
+                queued.incrementAndGet();
+            }
+            queue.add(frame);
+            scheduleDrain();
+        }
+
+        @Override
+        void completeWhenDrained() {
+            completeWhenDrained = true;
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!closed && draining.compareAndSet(false, true)) {
+                try {
+                    fanoutExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    log.warn("Metrics fan-out rejected for test: {}; closing stream", testId);
+                    complete();
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Frame frame;
+                while (!closed && (frame = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    send(frame);
+                }
+                if (completeWhenDrained && !closed && queue.isEmpty()) {
+                    complete();
+                    close();
+                }
+            } catch (Exception e) {
+                // The container reports the failed write through onError/onCompletion
+                log.debug("Dropping metrics subscriber for test: {}: {}", testId, e.getMessage());
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed && (!queue.isEmpty() || completeWhenDrained)) {
+                scheduleDrain();
+            }
+        }
+
+        @Override
+        void close() {
+            super.close();
+            queue.clear();
+        }
+    }
+
+    /**
+     * Servlet SSE client.
+     */
+    private final class SseSubscriber extends QueuedSubscriber {
+
+        private final SseEmitter emitter;
+
+        private SseSubscriber(String testId, SseEmitter emitter, String lastEventId) {
+            super(testId, lastEventId);
+            this.emitter = emitter;
+        }
+
+        @Override
+        void send(Frame frame) throws IOException {
+            emitter.send(frame.event);
+        }
+
+        @Override
+        void complete() {
+            emitter.complete();
+        }
+    }
+
+    /**
+     * WebSocket client receiving either JSON text messages or compact CBOR binary messages.
+     * The binary form is encoded on the publisher thread, while the message state is current.
+     */
+    private final class WebSocketSubscriber extends QueuedSubscriber {
+
+        private final WebSocketSession session;
+        private final boolean binary;
+
+        private WebSocketSubscriber(String testId, WebSocketSession session, boolean binary,
+            String lastEventId) {
+            super(testId, lastEventId);
+            this.session = session;
+            this.binary = binary;
+        }
+
+        @Override
+        void offer(Frame frame) {
+            if (binary && !closed) {
+                try {
+                    frame.cbor();
+                } catch (JsonProcessingException e) {
+                    log.error("Failed to encode binary metrics for test: {}", testId, e);
+                    return;
+                }
+            }
+            super.offer(frame);
+        }
+
+        @Override
+        void send(Frame frame) throws IOException {
+            session.sendMessage(
+                binary ? new BinaryMessage(frame.cbor()) : new TextMessage(frame.json));
+        }
+
+        @Override
+        void complete() {
+            try {
+                session.close(CloseStatus.NORMAL);
+            } catch (IOException e) {
+                log.debug("Failed to close metrics WebSocket for test: {}: {}", testId,
+                    e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reactive client. A frame is emitted only when the client has requested one; otherwise it
+     * is conflated: nothing is buffered and the client receives a snapshot, the latest state,
+     * on the first tick after it requests more.
+     */
+    private final class FluxSubscriber extends Subscriber {
+
+        private final FluxSink<ServerSentEvent<String>> sink;
+
+        private FluxSubscriber(String testId, FluxSink<ServerSentEvent<String>> sink,
+            String lastEventId) {
+            super(testId, lastEventId);
+            this.sink = sink;
+        }
+
+        @Override
+        void offer(Frame frame) {
+            if (closed) {
+                return;
+            }
+            if (sink.requestedFromDownstream() > 0 && (frame.snapshot || !needsSnapshot)) {
+                sink.next(frame.serverSentEvent);
+            } else {
+                needsSnapshot = true;
+            }
+        }
+
+        @Override
+        void completeWhenDrained() {
+            sink.complete();
+            close();
+        }
+    }
+}
@@ -5,26 +5,57 @@
 
 package com.monitor.annotation.service;
 
+import com.monitor.annotation.dto.EndpointStatistics;
+import com.monitor.annotation.dto.MethodStatistics;
 import com.monitor.annotation.dto.PerformanceData;
+import com.monitor.annotation.metrics.RequestPhaseStats;
+import com.monitor.annotation.metrics.RequestTimeline;
+import com.monitor.annotation.metrics.RingBuffer;
+import com.monitor.annotation.metrics.RollingWindowStats;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 /**
  * Service responsible for collecting and managing performance measurement data.
  * Stores and analyzes performance metrics for methods annotated with @PerformanceMeasure.
  * Provides functionality to detect performance bottlenecks and generate performance reports.
+ *
+ * Memory use is bounded: each method keeps only its most recent samples in a fixed-size
+ * ring buffer, while lifetime aggregates (call count, total execution time) and sliding
+ * 1/5/15-minute window aggregates are maintained incrementally as data arrives, so statistics
+ * can be queried at high frequency without scanning samples.
+ *
+ * Allocated bytes per call are summed per method, so the methods that allocate the most, and
+ * so drive GC pressure, can be found from {@link #getMethodStatistics()}.
+ *
+ * Requests to monitored endpoints are also broken down into Tomcat and Spring MVC phases per
+ * endpoint (see {@link RequestTimeline}), since the method's execution time leaves out request
+ * parsing, filters, message conversion and the response flush.
  */
 @Slf4j
 @Service
 public class PerformanceMonitorService {
 
-    private final Map<String, List<PerformanceData>> performanceDataMap = new ConcurrentHashMap<>();
+    private final int samplesPerMethod;
+    private final Map<String, MethodStats> methodStatsMap = new ConcurrentHashMap<>();
+    private final RingBuffer<PerformanceData> slowExecutions;
+    private final Map<String, RequestPhaseStats> endpointStatsMap = new ConcurrentHashMap<>();
+
+    public PerformanceMonitorService(
+        @Value("${performance.monitor.samples-per-method:1000}") int samplesPerMethod,
+        @Value("${performance.monitor.slow-executions-size:1000}") int slowExecutionsSize) {
+        this.samplesPerMethod = samplesPerMethod;
+        this.slowExecutions = new RingBuffer<>(slowExecutionsSize);
+    }
 
     /**
      * Adds new performance measurement data to the monitoring system.
@@ -34,39 +65,131 @@ public class PerformanceMonitorService {
      */
     public void addPerformanceData(PerformanceData data) {
         String key = data.getClassName() + "." + data.getMethodName();
-        performanceDataMap.computeIfAbsent(key, k -> new ArrayList<>()).add(data);
+        MethodStats stats = methodStatsMap.get(key);
+        if (stats == null) {
+            stats = methodStatsMap.computeIfAbsent(key, k -> new MethodStats(samplesPerMethod));
+        }
+        stats.record(data);
 
         if (data.isSlowExecution()) {
+            slowExecutions.add(data);
             log.warn("성능 병목 감지: {} (실행시간: {}ms)", key, data.getExecutionTime());
         }
     }
 
     /**
-     * Retrieves all collected performance data, sorted by timestamp in descending order.
+     * Records the phases of a completed request to a monitored endpoint.
+     *
+     * @param timeline Timeline of the request, with its endpoint set
+     */
+    public void recordRequest(RequestTimeline timeline) {
+        RequestPhaseStats stats = endpointStatsMap.get(timeline.getEndpoint());
+        if (stats == null) {
+            stats = endpointStatsMap.computeIfAbsent(timeline.getEndpoint(),
+                k -> new RequestPhaseStats());
+        }
+        stats.record(timeline);
+    }
+
+    /**
+     * Retrieves the retained performance data of all methods, sorted by timestamp in descending
+     * order. At most samples-per-method entries are kept for each method.
      *
-     * @return List of all performance measurements
+     * @return List of recent performance measurements
      */
     public List<PerformanceData> getAllPerformanceData() {
-        return performanceDataMap.values().stream()
-            .flatMap(List::stream)
+        return methodStatsMap.values().stream()
+            .flatMap(stats -> stats.recent.toList().stream())
             .sorted((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()))
             .collect(Collectors.toList());
     }
 
     public Map<String, Double> getAverageExecutionTimes() { // 나중에 성능 모니터링 대시보드나 리포트 생성 시 사용
-        return performanceDataMap.entrySet().stream()
+        return methodStatsMap.entrySet().stream()
             .collect(Collectors.toMap(
                 Map.Entry::getKey,
-                entry -> entry.getValue().stream()
-                    .mapToLong(PerformanceData::getExecutionTime)
-                    .average()
-                    .orElse(0.0)
+                entry -> entry.getValue().averageExecutionTime()
             ));
     }
 
     public List<PerformanceData> getBottlenecks() { // 나중에 성능 모니터링 대시보드나 리포트 생성 시 사용
-        return getAllPerformanceData().stream()
-            .filter(PerformanceData::isSlowExecution)
+        return slowExecutions.toList().stream()
+            .sorted((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()))
             .collect(Collectors.toList());
     }
+
+    /**
+     * Returns lifetime and sliding-window (1m/5m/15m) statistics for every monitored method.
+     * Cost depends only on the number of methods, not on the number of recorded calls.
+     *
+     * @return Map of "Class.method" to its statistics
+     */
+    public Map<String, MethodStatistics> getMethodStatistics() {
+        return methodStatsMap.entrySet().stream()
+            .collect(Collectors.toMap(
+                Map.Entry::getKey,
+                entry -> entry.getValue().toStatistics()
+            ));
+    }
+
+    /**
+     * Returns the per-phase request latencies of every monitored endpoint.
+     *
+     * @return Map of "METHOD /pattern" to its statistics, sorted by endpoint
+     */
+    public Map<String, EndpointStatistics> getEndpointStatistics() {
+        Map<String, EndpointStatistics> result = new LinkedHashMap<>();
+        endpointStatsMap.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> result.put(entry.getKey(), entry.getValue().toStatistics()));
+        return result;
+    }
+
+    /**
+     * Per-method storage: a fixed-size buffer of recent samples plus lifetime and sliding-window
+     * aggregates. All updates are O(1).
+     */
+    private static class MethodStats {
+
+        private final RingBuffer<PerformanceData> recent;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalExecutionTime = new LongAdder();
+        private final LongAdder allocatedCount = new LongAdder();
+        private final LongAdder totalAllocatedBytes = new LongAdder();
+        private final RollingWindowStats windows = new RollingWindowStats();
+
+        MethodStats(int capacity) {
+            this.recent = new RingBuffer<>(capacity);
+        }
+
+        void record(PerformanceData data) {
+            recent.add(data);
+            count.increment();
+            totalExecutionTime.add(data.getExecutionTime());
+            if (data.getAllocatedBytes() >= 0) {
+                allocatedCount.increment();
+                totalAllocatedBytes.add(data.getAllocatedBytes());
+            }
+            windows.record(data.getExecutionTime(), data.isSlowExecution(), data.isError());
+        }
+
+        double averageExecutionTime() {
+            long n = count.sum();
+            return n == 0 ? 0.0 : (double) totalExecutionTime.sum() / n;
+        }
+
+        MethodStatistics toStatistics() {
+            long measured = allocatedCount.sum();
+            return MethodStatistics.builder()
+                .totalCount(count.sum())
+                .averageExecutionTime(averageExecutionTime())
+                .totalAllocatedBytes(totalAllocatedBytes.sum())
+                .averageAllocatedBytes(
+                    measured == 0 ? 0.0 : (double) totalAllocatedBytes.sum() / measured)
+                .oneMinute(windows.getStatistics(Duration.ofMinutes(1)))
+                .fiveMinutes(windows.getStatistics(Duration.ofMinutes(5)))
+                .fifteenMinutes(windows.getStatistics(Duration.ofMinutes(15)))
+                .build();
+        }
+    }
 }
\ No newline at end of file
@@ -5,106 +5,190 @@
 
 package com.monitor.annotation.service;
 
+import com.monitor.annotation.dto.GcEvent;
 import com.monitor.annotation.dto.MemoryMetrics;
+import com.monitor.annotation.dto.ProfileSummary;
 import com.monitor.annotation.dto.TestResult;
 import com.monitor.annotation.dto.TestScenarioRequest;
 import com.monitor.annotation.dto.ThreadMetrics;
+import com.monitor.annotation.load.AdmissionController;
+import com.monitor.annotation.load.ArrivalSchedule;
+import com.monitor.annotation.load.RequestEngine;
+import com.monitor.annotation.load.VirtualThreads;
+import com.monitor.annotation.metrics.GcImpactStats;
+import com.monitor.annotation.metrics.LongRingBuffer;
+import com.monitor.annotation.thread.MonitoredThreadRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * Core service for executing performance tests against REST endpoints. Provides functionality for:
  * - Concurrent load testing - Real-time metrics collection - Test progress monitoring - Result
  * aggregation and analysis
+ *
+ * Two load models are supported. The closed model runs concurrentUsers users that each send
+ * repeatCount requests back to back. The open model sends requests at a target arrival rate
+ * regardless of how many are still outstanding, and measures latency from each request's
+ * intended start time, so a slow target shows up as latency instead of reduced load.
+ *
+ * Requests are sent through a pluggable {@link RequestEngine}. With a non-blocking engine the
+ * closed-model users chain their requests asynchronously and the open-model dispatcher sends
+ * directly, so no thread is held per user or per in-flight request.
+ *
+ * Several tests can run at once. Test orchestration runs on performanceTestExecutor, while each
+ * test's blocking users run on a pool owned by that test and sized by its concurrentUsers, or on
+ * one virtual thread each when userThreads is VIRTUAL and the runtime supports it, so tests do
+ * not queue behind each other. The {@link AdmissionController} caps the number of
+ * running tests and the total number of requests in flight across all of them. A test that
+ * times out or fails has its users stopped before its slot is released, and responses that
+ * arrive after it ended are no longer recorded.
+ *
+ * GC pauses reported by the {@link GcEventMonitorService} are added to every running test with
+ * the number of its requests outstanding at the time, and each request notes whether a pause
+ * was reported while it was in flight, so latency spikes can be matched to collections.
+ *
+ * Tests started with profiling enabled are recorded by the {@link JfrProfilingService} while
+ * they run, and the aggregated profile is attached to the final result.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PerformanceTestService {
 
-    private final Object testLock = new Object();
-    private volatile boolean testInProgress = false;
-    private final RestTemplate restTemplate;
-    private final MemoryMonitorService memoryMonitorService;
+    private static final int MAX_OPEN_MODEL_IN_FLIGHT = 65_535;  // Phaser party limit
+    private static final long ADMISSION_RETRY_MILLIS = 10;
+
+    private final AdmissionController admissionController;
+    private final List<RequestEngine> requestEngines;
+    private final JvmMetricsSampler jvmMetricsSampler;
     private final ThreadMonitorService threadMonitorService;
+    private final GcEventMonitorService gcEventMonitorService;
+    private final JfrProfilingService jfrProfilingService;
+    private final MonitoredThreadRegistry monitoredThreadRegistry;
 
     @Qualifier("performanceTestExecutor")
     private final ThreadPoolTaskExecutor performanceTestExecutor;
 
     private final Map<String, TestResult> testResults = new ConcurrentHashMap<>();           // save test results
-    private final Map<String, List<MemoryMetrics>> activeTestMetrics = new ConcurrentHashMap<>();  // memory metrics of active test
+    private final Map<String, Long> activeTestSampleStart = new ConcurrentHashMap<>();   // first JVM sample of active test
+    private final Map<String, JfrProfilingService.Session> activeProfiles = new ConcurrentHashMap<>();   // JFR recording of active test
+
+    @PostConstruct
+    public void registerGcListener() {
+        gcEventMonitorService.addListener(this::recordGcPause);
+    }
 
     /**
-     * Collect memory metrics of active tests periodically. Execute every 1 second. Collect memory
-     * metrics for all currently running tests.
+     * add a GC pause to every running test
      */
-    @Scheduled(fixedRate = 1000)
-    public void collectMetricsForActiveTests() {
-        if (!activeTestMetrics.isEmpty()) {
-            MemoryMetrics currentMetrics = memoryMonitorService.collectMetrics();
-            activeTestMetrics.forEach((testId, metricsList) -> metricsList.add(currentMetrics));
+    private void recordGcPause(GcEvent event) {
+        if (!event.isPause()) {
+            return;
+        }
+        for (TestResult result : testResults.values()) {
+            if (!result.isCompleted()) {
+                result.getGcStats().recordPause(event);
+            }
         }
     }
 
     /**
-     * start collecting metrics for new tests
+     * start collecting metrics for new tests. Memory metrics come from the shared
+     * {@link JvmMetricsSampler}; only the position of the test's first sample is recorded.
      *
      * @param testId test ID
      */
     private void startMetricsCollection(String testId) {
-        activeTestMetrics.put(testId, Collections.synchronizedList(new ArrayList<>()));
+        activeTestSampleStart.put(testId, jvmMetricsSampler.nextSequence());
     }
 
     /**
      * stop collecting test metrics and return collected metrics
      *
      * @param testId test ID
-     * @return collected memory metrics list
+     * @return memory metrics sampled while the test ran, or null if it was not being collected
      */
     private List<MemoryMetrics> stopMetricsCollection(String testId) {
-        return activeTestMetrics.remove(testId);
+        Long start = activeTestSampleStart.remove(testId);
+        return start != null ? jvmMetricsSampler.samplesSince(start) : null;
+    }
+
+    /**
+     * start recording a JFR profile of the test
+     *
+     * @param testId test ID
+     */
+    private void startProfiling(String testId) {
+        jfrProfilingService.start("LoadTest-" + testId)
+            .ifPresent(session -> activeProfiles.put(testId, session));
     }
 
     /**
-     * Initiates a new performance test based on the provided configuration. Ensures only one test
-     * runs at a time and manages test lifecycle.
+     * stop recording the test's profile
+     *
+     * @param testId test ID
+     * @return aggregated profile, or null if the test was not profiled
+     */
+    private ProfileSummary stopProfiling(String testId) {
+        JfrProfilingService.Session session = activeProfiles.remove(testId);
+        return session != null ? jfrProfilingService.stop(session) : null;
+    }
+
+    /**
+     * Initiates a new performance test based on the provided configuration. Tests run
+     * concurrently up to the admission controller's limit and manages test lifecycle.
      *
      * @param request Test configuration including endpoint, concurrency, and other parameters
      * @return Unique test ID for tracking the test
-     * @throws IllegalStateException if another test is already running
+     * @throws IllegalArgumentException if the request describes no valid test
+     * @throws IllegalStateException if the maximum number of tests is already running
      */
     public String startNewTest(TestScenarioRequest request) {
-        synchronized (testLock) {
-            if (testInProgress) {
-                throw new IllegalStateException(
-                    "Another test is already in progress. Please wait for it to complete.");
-            }
-            testInProgress = true;
+        if (request.isOpenModel()) {
+            createArrivalSchedule(request);  // Rejects an invalid rate profile up front
         }
+        if (!admissionController.tryBeginTest()) {
+            throw new IllegalStateException("Maximum of "
+                + admissionController.getMaxConcurrentTests()
+                + " concurrent tests reached. Please wait for one to complete.");
+        }
+        String testId = UUID.randomUUID().toString();
         try {
-            String testId = UUID.randomUUID().toString();
             startMetricsCollection(testId);
+            if (request.isProfiling()) {
+                startProfiling(testId);
+            }
 
             log.info("Starting new test with ID: {}", testId);
 
@@ -118,6 +202,8 @@ public class PerformanceTestService {
                 .completed(false)
                 .startTime(LocalDateTime.now())
                 .status("RUNNING")
+                .responseTimeSamples(request.getResponseTimeSampleSize() > 0
+                    ? new LongRingBuffer(request.getResponseTimeSampleSize()) : null)
                 .build();
 
             testResults.put(testId, initialResult);
@@ -128,7 +214,11 @@ public class PerformanceTestService {
             return testId;
 
         } catch (Exception e) {
-            testInProgress = false;
+            // Not started: release what runTest would have released when it ended
+            admissionController.endTest();
+            testResults.remove(testId);
+            stopProfiling(testId);
+            stopMetricsCollection(testId);
             throw e;
         }
     }
@@ -170,44 +260,73 @@ public class PerformanceTestService {
      */
     private void runTest(String testId, TestScenarioRequest request) {
         ThreadMetrics threadMetrics = null;
+        RequestEngine preparedEngine = null;
+        ExecutorService userExecutor = null;
+        boolean finished = false;
         try {
             threadMetrics = threadMonitorService.startMethodMonitoring(
+                testId,
                 this.getClass().getSimpleName(),
                 "runTest"
             );
 
-            List<Long> responseTimes = Collections.synchronizedList(new ArrayList<>());
-            CountDownLatch latch = new CountDownLatch(
-                request.getConcurrentUsers() * request.getRepeatCount());
             AtomicInteger successCount = new AtomicInteger(0);
             AtomicInteger failureCount = new AtomicInteger(0);
 
             HttpHeaders headers = prepareHeaders(request, testId);
             HttpEntity<?> requestEntity = createRequestEntity(request, headers);
+            RequestEngine engine = resolveRequestEngine(request);
+            engine.prepare(URI.create(request.getUrl()), request);
+            preparedEngine = engine;
+
+            if (request.isOpenModel()) {
+                if (!executeOpenModelRequests(engine, request, successCount, failureCount,
+                    requestEntity, testId)) {
+                    return;
+                }
+            } else {
+                CountDownLatch latch = new CountDownLatch(
+                    request.getConcurrentUsers() * request.getRepeatCount());
 
-            executeTestRequests(request, latch, responseTimes, successCount, failureCount,
-                requestEntity, testId);
+                userExecutor = executeTestRequests(engine, request, latch, successCount,
+                    failureCount, requestEntity, testId);
 
-            if (!waitForTestCompletion(testId, request, latch)) {
-                return;
+                if (!waitForTestCompletion(testId, request, latch)) {
+                    return;
+                }
             }
 
-            updateFinalResults(testId, request, responseTimes, successCount.get(),
-                failureCount.get());
+            updateFinalResults(testId, request, successCount.get(), failureCount.get());
+            finished = true;
 
         } catch (Exception e) {
             log.error("Test {} failed: {}", testId, e.getMessage(), e);
             handleTestError(testId, e);
         } finally {
+            if (userExecutor != null && !finished) {
+                // Timed out or failed: stop the users before the slot and route are released
+                userExecutor.shutdownNow();
+            }
+            admissionController.endTest();
+            if (preparedEngine != null) {
+                preparedEngine.finish(URI.create(request.getUrl()), request);
+            }
+            stopProfiling(testId);  // no-op unless the test ended without building a result
             if (threadMetrics != null) {
-                threadMonitorService.stopMethodMonitoring(
-                    this.getClass().getSimpleName(),
-                    "runTest"
-                );
+                threadMonitorService.stopMethodMonitoring(testId, threadMetrics);
             }
         }
     }
 
+    private RequestEngine resolveRequestEngine(TestScenarioRequest request) {
+        TestScenarioRequest.Engine type = request.getEngine() != null
+            ? request.getEngine() : TestScenarioRequest.Engine.BLOCKING;
+        return requestEngines.stream()
+            .filter(engine -> engine.type() == type)
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("No request engine for " + type));
+    }
+
     /**
      * Prepare HTTP request header
      */
@@ -231,20 +350,35 @@ public class PerformanceTestService {
 
     /**
      * Executes the test request
+     *
+     * @return Executor running the blocking users, already shut down so that it terminates once
+     *         they finish, or null for a non-blocking engine
      */
-    private void executeTestRequests(TestScenarioRequest request, CountDownLatch latch,
-        List<Long> responseTimes, AtomicInteger successCount, AtomicInteger failureCount,
+    private ExecutorService executeTestRequests(RequestEngine engine, TestScenarioRequest request,
+        CountDownLatch latch, AtomicInteger successCount, AtomicInteger failureCount,
         HttpEntity<?> requestEntity, String testId) {
 
+        ExecutorService userExecutor = engine.isBlocking()
+            ? createUserExecutor(request, testId) : null;
+
         for (int i = 0; i < request.getConcurrentUsers(); i++) {
             int userId = i;
-            performanceTestExecutor.submit(() -> {
+            if (!engine.isBlocking()) {
+                long delay = request.getRampUpSeconds() > 0 ? calculateRampUpDelay(userId,
+                    request.getRampUpSeconds(), request.getConcurrentUsers()) : 0;
+                CompletableFuture.runAsync(
+                    () -> executeUserRequestsAsync(engine, request, request.getRepeatCount(), latch,
+                        successCount, failureCount, requestEntity, testId),
+                    CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS));
+                continue;
+            }
+            userExecutor.execute(() -> {
                 try {
                     if (request.getRampUpSeconds() > 0) {
                         Thread.sleep(calculateRampUpDelay(userId, request.getRampUpSeconds(),
                             request.getConcurrentUsers()));
                     }
-                    executeUserRequests(request, latch, responseTimes, successCount, failureCount,
+                    executeUserRequests(engine, request, latch, successCount, failureCount,
                         requestEntity, testId);
                 } catch (Exception e) {
                     log.error("User thread execution failed: {}", e.getMessage(), e);
@@ -252,6 +386,137 @@ public class PerformanceTestService {
                 }
             });
         }
+
+        if (userExecutor != null) {
+            userExecutor.shutdown();  // submitted users finish; the threads then exit
+        }
+        return userExecutor;
+    }
+
+    /**
+     * Creates the executor running this test's blocking users: one virtual thread per user when
+     * requested and supported, otherwise a pool of up to maxUserThreadsPerTest platform threads.
+     */
+    private ExecutorService createUserExecutor(TestScenarioRequest request, String testId) {
+        String namePrefix = "PerfTest-" + testId.substring(0, 8) + "-User-";
+        if (request.getUserThreads() == TestScenarioRequest.UserThreads.VIRTUAL) {
+            Optional<ExecutorService> virtualExecutor = VirtualThreads.newThreadPerTaskExecutor(
+                namePrefix, monitoredThreadRegistry::wrap);
+            if (virtualExecutor.isPresent()) {
+                return virtualExecutor.get();
+            }
+            log.warn("Virtual threads are not supported on this runtime; test {} runs its "
+                + "users on a platform thread pool", testId);
+        }
+
+        int threads = Math.max(1,
+            Math.min(request.getConcurrentUsers(), admissionController.getMaxUserThreadsPerTest()));
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            monitoredThreadRegistry.wrap(new CustomizableThreadFactory(namePrefix)));
+    }
+
+    /**
+     * Executes an open-model test: a dispatcher issues each request at its scheduled arrival
+     * time without waiting for earlier requests to finish. Blocking engines send from a
+     * dedicated pool; non-blocking engines are called directly by the dispatcher. Arrivals that
+     * would exceed maxInFlight outstanding requests are counted as failures.
+     *
+     * @return Whether all requests completed within the timeout after the last arrival
+     */
+    private boolean executeOpenModelRequests(RequestEngine engine, TestScenarioRequest request,
+        AtomicInteger successCount, AtomicInteger failureCount, HttpEntity<?> requestEntity,
+        String testId) throws InterruptedException {
+
+        ArrivalSchedule schedule = createArrivalSchedule(request);
+        int maxInFlight = Math.max(1, Math.min(request.getMaxInFlight(), MAX_OPEN_MODEL_IN_FLIGHT));
+        ThreadPoolExecutor requestExecutor = engine.isBlocking()
+            ? new ThreadPoolExecutor(0, maxInFlight, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                monitoredThreadRegistry.wrap(new CustomizableThreadFactory("PerfTest-Open-")))
+            : null;
+        Phaser inFlight = new Phaser(1);  // the dispatcher is the first party
+        boolean drained = false;
+
+        try {
+            long testStart = System.nanoTime();
+            long offset;
+            while ((offset = schedule.nextArrivalOffsetNanos()) >= 0) {
+                long intendedStart = testStart + offset;
+                waitUntil(intendedStart);
+
+                // Unarrived parties = dispatcher + requests in flight
+                if (requestExecutor == null && inFlight.getUnarrivedParties() > maxInFlight) {
+                    dropArrival(testId, failureCount, maxInFlight);
+                    continue;
+                }
+                if (!admissionController.tryAcquireRequest()) {
+                    dropArrival(testId, failureCount, admissionController.getMaxInFlightRequests());
+                    continue;
+                }
+
+                inFlight.register();
+                Runnable send = () -> executeRequest(engine, request, successCount, failureCount,
+                    requestEntity, testId, intendedStart)
+                    .whenComplete((result, error) -> inFlight.arriveAndDeregister());
+                try {
+                    if (requestExecutor != null) {
+                        requestExecutor.execute(send);
+                    } else {
+                        send.run();
+                    }
+                } catch (RejectedExecutionException e) {
+                    admissionController.releaseRequest();
+                    inFlight.arriveAndDeregister();
+                    dropArrival(testId, failureCount, maxInFlight);
+                }
+            }
+
+            int phase = inFlight.arriveAndDeregister();
+            inFlight.awaitAdvanceInterruptibly(phase, request.getTimeoutSeconds(),
+                TimeUnit.SECONDS);
+            drained = true;
+            return true;
+        } catch (TimeoutException e) {
+            handleTestTimeout(testId);
+            return false;
+        } finally {
+            if (requestExecutor != null) {
+                if (drained) {
+                    requestExecutor.shutdown();
+                } else {
+                    requestExecutor.shutdownNow();  // interrupt requests still outstanding
+                }
+            }
+        }
+    }
+
+    private void dropArrival(String testId, AtomicInteger failureCount, int maxInFlight) {
+        failureCount.incrementAndGet();
+        log.debug("Dropped arrival for test {}: {} requests in flight", testId, maxInFlight);
+    }
+
+    private ArrivalSchedule createArrivalSchedule(TestScenarioRequest request) {
+        if (request.getStages() == null || request.getStages().isEmpty()) {
+            return ArrivalSchedule.constant(request.getTargetRps(), request.getDurationSeconds());
+        }
+        ArrivalSchedule schedule = new ArrivalSchedule();
+        request.getStages().forEach(stage ->
+            schedule.addStage(stage.getDurationSeconds(), stage.getTargetRps(), stage.isRamp()));
+        return schedule;
+    }
+
+    /**
+     * Parks the dispatcher until the given System.nanoTime() value is reached.
+     */
+    private void waitUntil(long deadlineNanos) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
     }
 
     /**
@@ -288,18 +553,32 @@ public class PerformanceTestService {
     /**
      * Executes repeated requests from a single user
      */
-    private void executeUserRequests(TestScenarioRequest request, CountDownLatch latch,
-        List<Long> responseTimes, AtomicInteger successCount, AtomicInteger failureCount,
+    private void executeUserRequests(RequestEngine engine, TestScenarioRequest request,
+        CountDownLatch latch, AtomicInteger successCount, AtomicInteger failureCount,
         HttpEntity<?> requestEntity, String testId) {
 
         for (int j = 0; j < request.getRepeatCount(); j++) {
+            if (isStopped(testId)) {
+                return;
+            }
             try {
-                executeRequest(request, responseTimes, successCount, failureCount, requestEntity,
-                    testId);
-            } catch (Exception e) {
-
-                log.error("Request failed: {}", e.getMessage());
+                if (j > 0 && request.getThinkTimeMillis() > 0) {
+                    Thread.sleep(request.getThinkTimeMillis());
+                }
+                if (!admissionController.tryAcquireRequest(request.getTimeoutSeconds(),
+                    TimeUnit.SECONDS)) {
+                    log.warn("Test {}: no request permit within {}s", testId,
+                        request.getTimeoutSeconds());
+                    failureCount.incrementAndGet();
+                    continue;
+                }
+                executeRequest(engine, request, successCount, failureCount, requestEntity, testId,
+                    System.nanoTime()).join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
                 failureCount.incrementAndGet();
+                handleFailedRequests(request.getRepeatCount() - j - 1, failureCount, latch);
+                return;
             } finally {
                 latch.countDown();
             }
@@ -307,40 +586,104 @@ public class PerformanceTestService {
     }
 
     /**
-     * Executes repeated requests from a single user
+     * Executes repeated requests from a single user on a non-blocking engine. Each request is
+     * sent from the completion of the previous one, so no thread is held between requests.
      */
-    private void executeRequest(TestScenarioRequest request, List<Long> responseTimes,
-        AtomicInteger successCount, AtomicInteger failureCount, HttpEntity<?> requestEntity,
-        String testId) {
-
-        long startTime = System.nanoTime();
-        ResponseEntity<?> response = restTemplate.exchange(
-            request.getUrl(),
-            HttpMethod.valueOf(request.getMethod()),
-            requestEntity,
-            String.class
-        );
-        long responseTime = (System.nanoTime() - startTime) / 1_000_000;
-
-        responseTimes.add(responseTime);
-        TestResult currentResult = testResults.get(testId);
+    private void executeUserRequestsAsync(RequestEngine engine, TestScenarioRequest request,
+        int remainingRequests, CountDownLatch latch, AtomicInteger successCount,
+        AtomicInteger failureCount, HttpEntity<?> requestEntity, String testId) {
+        if (remainingRequests <= 0 || isStopped(testId)) {
+            return;
+        }
+        if (!admissionController.tryAcquireRequest()) {
+            // Global in-flight limit reached: retry later without holding a thread
+            CompletableFuture.runAsync(
+                () -> executeUserRequestsAsync(engine, request, remainingRequests, latch,
+                    successCount, failureCount, requestEntity, testId),
+                CompletableFuture.delayedExecutor(ADMISSION_RETRY_MILLIS, TimeUnit.MILLISECONDS));
+            return;
+        }
+        executeRequest(engine, request, successCount, failureCount, requestEntity, testId,
+            System.nanoTime())
+            .whenComplete((result, error) -> {
+                latch.countDown();
+                if (remainingRequests > 1) {
+                    CompletableFuture.runAsync(
+                        () -> executeUserRequestsAsync(engine, request, remainingRequests - 1,
+                            latch, successCount, failureCount, requestEntity, testId),
+                        CompletableFuture.delayedExecutor(request.getThinkTimeMillis(),
+                            TimeUnit.MILLISECONDS));
+                }
+            });
+    }
 
-        if (currentResult != null) {
-            currentResult.addResponseTime(responseTime);
+    /**
+     * Executes a single request. Response time is measured from the intended start time, which
+     * for open-model tests includes any delay before the request could be sent.
+     */
+    private CompletableFuture<Void> executeRequest(RequestEngine engine,
+        TestScenarioRequest request, AtomicInteger successCount, AtomicInteger failureCount,
+        HttpEntity<?> requestEntity, String testId, long intendedStartNanos) {
+
+        TestResult startResult = testResults.get(testId);
+        GcImpactStats gcStats = startResult != null ? startResult.getGcStats() : null;
+        long pausesAtStart = gcEventMonitorService.pauseCount();
+        if (gcStats != null) {
+            gcStats.requestStarted();
+        }
 
-            if (response.getStatusCode().is2xxSuccessful()) {
-                successCount.incrementAndGet();
-            } else {
+        CompletableFuture<HttpStatusCode> response;
+        try {
+            response = engine.send(URI.create(request.getUrl()),
+                HttpMethod.valueOf(request.getMethod()), requestEntity,
+                startResult != null ? startResult.getConnectionStats() : null);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+
+        return response.handle((statusCode, error) -> {
+            long responseTime = (System.nanoTime() - intendedStartNanos) / 1_000_000;
+            TestResult currentResult = testResults.get(testId);
+            if (currentResult != null && currentResult.isCompleted()) {
+                currentResult = null;  // Finished while in flight; the result is final
+            }
+            if (gcStats != null) {
+                gcStats.requestCompleted(gcEventMonitorService.pauseCount() != pausesAtStart);
+            }
+
+            if (error != null) {
+                log.error("Request failed: {}", error.getMessage());
                 failureCount.incrementAndGet();
+            } else if (currentResult != null) {
+                currentResult.addResponseTime(responseTime);
+
+                if (statusCode.is2xxSuccessful()) {
+                    successCount.incrementAndGet();
+                } else {
+                    failureCount.incrementAndGet();
+                }
             }
 
-            // Updates the real-time progress
-            currentResult.updateProgress(
-                successCount.get() + failureCount.get(),
-                successCount.get(),
-                failureCount.get()
-            );
-        }
+            admissionController.releaseRequest();
+            if (currentResult != null) {
+                // Updates the real-time progress
+                currentResult.updateProgress(
+                    successCount.get() + failureCount.get(),
+                    successCount.get(),
+                    failureCount.get()
+                );
+            }
+            return null;
+        });
+    }
+
+    /**
+     * @return Whether the test has already ended, such as by timing out, so its users must not
+     *         send more requests
+     */
+    private boolean isStopped(String testId) {
+        TestResult result = testResults.get(testId);
+        return result == null || result.isCompleted();
     }
 
     private long calculateRampUpDelay(int userIndex, int rampUpSeconds, int totalUsers) {
@@ -367,6 +710,10 @@ public class PerformanceTestService {
                 .successfulRequests(0)
                 .failedRequests(0)
                 .errorRate(100.0)
+                .latencyHistogram(currentResult.getLatencyHistogram())
+                .connectionStats(currentResult.getConnectionStats())
+                .gcStats(currentResult.getGcStats())
+                .profile(stopProfiling(testId))
                 .status("TIMEOUT")
                 .build();
 
@@ -389,6 +736,7 @@ public class PerformanceTestService {
             .status("ERROR")
             .errorMessage(e.getMessage())
             .completed(true)
+            .profile(stopProfiling(testId))
             .build();
 
         if (metrics != null) {
@@ -401,66 +749,43 @@ public class PerformanceTestService {
     /**
      * update test results (final)
      */
-    private void updateFinalResults(String testId, TestScenarioRequest request,
-        List<Long> responseTimes, int successCount, int failureCount) {
-        try {
-            List<MemoryMetrics> metrics = stopMetricsCollection(testId);
-            LocalDateTime endTime = LocalDateTime.now();
-            TestResult currentResult = testResults.get(testId);
+    private void updateFinalResults(String testId, TestScenarioRequest request, int successCount,
+        int failureCount) {
+        List<MemoryMetrics> metrics = stopMetricsCollection(testId);
+        LocalDateTime endTime = LocalDateTime.now();
+        TestResult currentResult = testResults.get(testId);
 
-            double totalSeconds = java.time.Duration.between(currentResult.getStartTime(), endTime)
-                .toMillis() / 1000.0;
+        double totalSeconds = java.time.Duration.between(currentResult.getStartTime(), endTime)
+            .toMillis() / 1000.0;
 
-            TestResult finalResult = TestResult.builder()
-                .testId(testId)
-                .description(request.getDescription())
-                .url(request.getUrl())
-                .method(request.getMethod())
-                .className(this.getClass().getSimpleName())
-                .methodName("runTest")
-                .completed(true)
-                .startTime(currentResult.getStartTime())
-                .endTime(endTime)
-                .totalRequests(successCount + failureCount)
-                .successfulRequests(successCount)
-                .failedRequests(failureCount)
-                .averageResponseTime(calculateAverageResponseTime(responseTimes))
-                .maxResponseTime(calculateMaxResponseTime(responseTimes))
-                .minResponseTime(calculateMinResponseTime(responseTimes))
-                .requestsPerSecond((successCount + failureCount) / totalSeconds)
-                .errorRate(calculateErrorRate(successCount, failureCount))
-                .status("COMPLETED")
-                .build();
+        TestResult finalResult = TestResult.builder()
+            .testId(testId)
+            .description(request.getDescription())
+            .url(request.getUrl())
+            .method(request.getMethod())
+            .className(this.getClass().getSimpleName())
+            .methodName("runTest")
+            .completed(true)
+            .startTime(currentResult.getStartTime())
+            .endTime(endTime)
+            .totalRequests(successCount + failureCount)
+            .successfulRequests(successCount)
+            .failedRequests(failureCount)
+            .latestResponseTime(currentResult.getLatestResponseTime())
+            .latencyHistogram(currentResult.getLatencyHistogram())
+            .connectionStats(currentResult.getConnectionStats())
+            .gcStats(currentResult.getGcStats())
+            .profile(stopProfiling(testId))
+            .responseTimeSamples(currentResult.getResponseTimeSamples())
+            .requestsPerSecond((successCount + failureCount) / totalSeconds)
+            .errorRate(calculateErrorRate(successCount, failureCount))
+            .status("COMPLETED")
+            .build();
 
-            responseTimes.forEach(finalResult::addResponseTime);
-            if (metrics != null) {
-                metrics.forEach(finalResult::addMemoryMetric);
-            }
-            testResults.put(testId, finalResult);
-        } finally {
-            testInProgress = false;
+        if (metrics != null) {
+            metrics.forEach(finalResult::addMemoryMetric);
         }
-    }
-
-    private double calculateAverageResponseTime(List<Long> responseTimes) {
-        return responseTimes.stream()
-            .mapToLong(Long::valueOf)
-            .average()
-            .orElse(0.0);
-    }
-
-    private double calculateMaxResponseTime(List<Long> responseTimes) {
-        return responseTimes.stream()
-            .mapToLong(Long::valueOf)
-            .max()
-            .orElse(0);
-    }
-
-    private double calculateMinResponseTime(List<Long> responseTimes) {
-        return responseTimes.stream()
-            .mapToLong(Long::valueOf)
-            .min()
-            .orElse(0);
+        testResults.put(testId, finalResult);
     }
 
     private double calculateErrorRate(int successCount, int failureCount) {
@@ -6,6 +6,9 @@
 package com.monitor.annotation.service;
 
 import com.monitor.annotation.dto.ThreadMetrics;
+import com.monitor.annotation.metrics.ThreadAllocation;
+import com.monitor.annotation.thread.InvocationContext;
+import com.monitor.annotation.thread.MonitoredThreadRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -22,9 +25,18 @@ import java.util.concurrent.ThreadPoolExecutor;
  * Service for monitoring thread behavior and collecting thread metrics.
  * Provides comprehensive thread monitoring capabilities including:
  * - Thread lifecycle management
- * - CPU time tracking
+ * - CPU time and allocated bytes tracking
  * - Thread pool statistics
  * - Parent-child thread relationship tracking
+ *
+ * Each monitored call gets its own ThreadMetrics instance (the invocation context), kept on a
+ * per-thread stack in {@link InvocationContext} while the call is running, and carried over to
+ * the tasks it hands to executors. Concurrent calls to the same method therefore never
+ * share or overwrite each other's metrics. Only long-running named monitors such as a test run
+ * are additionally published by class and method name for the dashboard.
+ *
+ * Thread pool state counts cover only the load-test threads kept in the
+ * {@link MonitoredThreadRegistry}, not every thread of the JVM.
  */
 @Slf4j
 @Service
@@ -32,13 +44,15 @@ public class ThreadMonitorService {
 
     private final ThreadMXBean threadMXBean;
     private final ThreadPoolTaskExecutor performanceExecutor;
+    private final MonitoredThreadRegistry monitoredThreadRegistry;
     private final Map<String, ThreadMetrics> methodMetrics = new ConcurrentHashMap<>();
-    private final Map<Long, String> threadToMethod = new ConcurrentHashMap<>();
 
     public ThreadMonitorService(
-        @Qualifier("performanceTestExecutor") ThreadPoolTaskExecutor performanceExecutor) {
+        @Qualifier("performanceTestExecutor") ThreadPoolTaskExecutor performanceExecutor,
+        MonitoredThreadRegistry monitoredThreadRegistry) {
         this.threadMXBean = ManagementFactory.getThreadMXBean();
         this.performanceExecutor = performanceExecutor;
+        this.monitoredThreadRegistry = monitoredThreadRegistry;
     }
 
     /**
@@ -51,23 +65,22 @@ public class ThreadMonitorService {
     }
 
     /**
-     * Starts monitoring a method's thread execution.
-     * Creates initial thread metrics and establishes monitoring context.
+     * Starts measuring a single method invocation on the current thread.
+     * The returned metrics object is the context of this invocation only and must be passed to
+     * {@link #endInvocation(ThreadMetrics)} on the same thread when the call finishes.
      *
      * @param className The class containing the method
-     * @param methodName The method to monitor
-     * @return Initial thread metrics
+     * @param methodName The invoked method
+     * @return Thread metrics owned by this invocation
      */
-    public ThreadMetrics startMethodMonitoring(String className, String methodName) {
-        String key = className + "." + methodName;
+    public ThreadMetrics beginInvocation(String className, String methodName) {
         Thread currentThread = Thread.currentThread();
-        long threadId = currentThread.getId();
 
         ThreadMetrics metrics = ThreadMetrics.builder()
             .type(ThreadMetrics.MetricType.METHOD)
             .className(className)
             .methodName(methodName)
-            .threadId(threadId)
+            .threadId(currentThread.getId())
             .threadName(currentThread.getName())
             .threadState(currentThread.getState())
             .isDaemon(currentThread.isDaemon())
@@ -77,21 +90,50 @@ public class ThreadMonitorService {
             .build();
 
         updateMetrics(metrics);
-        methodMetrics.put(key, metrics);
-        threadToMethod.put(threadId, key);
+        InvocationContext.push(metrics);
 
         return metrics;
     }
 
     /**
-     * Updates thread metrics for a specific method.
-     * Collects current thread states, CPU times, and pool statistics.
+     * Finishes measuring an invocation started by {@link #beginInvocation(String, String)}.
+     * Collects the final thread states and CPU times and detaches the context from the thread.
      *
+     * @param metrics The invocation context returned by beginInvocation
+     * @return The same metrics, updated with final values
+     */
+    public ThreadMetrics endInvocation(ThreadMetrics metrics) {
+        // Normally the top of the stack; tolerate out-of-order completion of nested calls
+        InvocationContext.remove(metrics);
+
+        updateMetrics(metrics);
+        metrics.close();
+        return metrics;
+    }
+
+    /**
+     * Starts monitoring a long-running method and publishes its metrics under a key, such as a
+     * test id, so they can be queried with {@link #getMethodMetrics(String)} while it runs.
+     * Concurrent calls of the same method must use different keys.
+     *
+     * @param key Key to publish the metrics under
      * @param className The class containing the method
-     * @param methodName The method being monitored
+     * @param methodName The method to monitor
+     * @return Initial thread metrics, to be passed to {@link #stopMethodMonitoring}
+     */
+    public ThreadMetrics startMethodMonitoring(String key, String className, String methodName) {
+        ThreadMetrics metrics = beginInvocation(className, methodName);
+        methodMetrics.put(key, metrics);
+        return metrics;
+    }
+
+    /**
+     * Updates the thread metrics published under a key.
+     * Collects current thread states, CPU times, and pool statistics.
+     *
+     * @param key Key given to startMethodMonitoring
      */
-    public void updateMethodMetrics(String className, String methodName) {
-        String key = className + "." + methodName;
+    public void updateMethodMetrics(String key) {
         ThreadMetrics metrics = methodMetrics.get(key);
 
         if (metrics != null) {
@@ -116,39 +158,39 @@ public class ThreadMonitorService {
         if (!"PerformanceTestService".equals(metrics.getClassName())) {
             return;  // 성능 테스트 서비스의 메트릭만 업데이트
         }
+        fillThreadPoolMetrics(metrics);
+    }
 
+    /**
+     * Returns the current state of the load-test pool, which all running tests share.
+     *
+     * @return Pool metrics without any invocation
+     */
+    public ThreadMetrics getTestPoolMetrics() {
+        ThreadMetrics metrics = ThreadMetrics.empty();
+        fillThreadPoolMetrics(metrics);
+        return metrics;
+    }
+
+    private void fillThreadPoolMetrics(ThreadMetrics metrics) {
         ThreadPoolExecutor executor = performanceExecutor.getThreadPoolExecutor();
 
         // 스레드 풀 기본 메트릭
         metrics.setActivePoolThreads(executor.getActiveCount());
         metrics.setPoolSize(executor.getPoolSize());
+        metrics.setCorePoolSize(executor.getCorePoolSize());
+        metrics.setMaxPoolSize(executor.getMaximumPoolSize());
         metrics.setQueuedTasks((long) executor.getQueue().size());
+        metrics.setTaskCount(executor.getTaskCount());
         metrics.setCompletedTasks(executor.getCompletedTaskCount());
 
-        // 스레드 상태 분석
-        ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds());
-        int waiting = 0;
-        int blocked = 0;
-        int running = executor.getActiveCount();
-
-        // PerfTest- 접두사를 가진 스레드만 카운트
-        for (ThreadInfo info : threadInfos) {
-            if (info != null && info.getThreadName().startsWith("PerfTest-")) {
-                switch (info.getThreadState()) {
-                    case WAITING:
-                    case TIMED_WAITING:
-                        waiting++;
-                        break;
-                    case BLOCKED:
-                        blocked++;
-                        break;
-                }
-            }
-        }
+        // 스레드 상태 분석: 부하 테스트 풀에 등록된 스레드만 조회
+        MonitoredThreadRegistry.Census census = monitoredThreadRegistry.census();
 
-        metrics.setRunningThreadCount(running);
-        metrics.setWaitingThreadCount(waiting);
-        metrics.setBlockedThreadCount(blocked);
+        metrics.setRunningThreadCount(executor.getActiveCount());
+        metrics.setWaitingThreadCount(census.getWaiting() + census.getTimedWaiting());
+        metrics.setTimedWaitingThreadCount(census.getTimedWaiting());
+        metrics.setBlockedThreadCount(census.getBlocked());
 
         log.debug("Thread pool metrics updated - active: {}, pool: {}, queue: {}, completed: {}, " +
                 "running: {}, waiting: {}, blocked: {}",
@@ -211,6 +253,7 @@ public class ThreadMonitorService {
             if (metrics.getChildThreads() != null) {
 
                 updateChildThreadCpuTimes(metrics);
+                updateChildThreadAllocatedBytes(metrics);
             }
         } catch (Exception e) {
             log.error("Error updating CPU times: {}", e.getMessage(), e);
@@ -238,82 +281,90 @@ public class ThreadMonitorService {
         }
     }
 
+    private void updateChildThreadAllocatedBytes(ThreadMetrics metrics) {
+        for (ThreadMetrics childMetric : metrics.getChildThreads().values()) {
+            long allocated = ThreadAllocation.ofThread(childMetric.getThreadId());
+            // -1 once the thread has terminated; keep the value it recorded on exit
+            if (allocated != -1) {
+                childMetric.setAllocatedBytes(allocated);
+            }
+        }
+    }
+
     /**
-     * Retrieves the current metrics for a method.
-     * Returns the last known metrics if the method is no longer being monitored.
+     * Sums the bytes allocated so far by the child threads of an invocation.
      *
-     * @param className The class containing the method
-     * @param methodName The method name
-     * @return Current or last known thread metrics
+     * @param metrics The invocation context returned by beginInvocation
+     * @return Allocated bytes of all registered child threads
      */
-    public ThreadMetrics getMethodMetrics(String className, String methodName) {
-        String key = className + "." + methodName;
-        ThreadMetrics metrics = methodMetrics.get(key);
-        if (metrics == null) {
-            // 활성 메트릭이 없으면 마지막 저장된 메트릭 반환
-            metrics = lastMetrics.get(key);
+    public long childAllocatedBytes(ThreadMetrics metrics) {
+        if (metrics == null || metrics.getChildThreads() == null) {
+            return 0;
         }
-        if (metrics != null) {
-            updateMetrics(metrics);
+        long allocated = 0;
+        for (ThreadMetrics childMetric : metrics.getChildThreads().values()) {
+            allocated += childMetric.getAllocatedBytes();
         }
-        return metrics;
+        return allocated;
     }
 
-    private final Map<String, ThreadMetrics> lastMetrics = new ConcurrentHashMap<>();
-
     /**
-     * Stops monitoring a method's thread execution.
-     * Saves final metrics and cleans up monitoring resources.
+     * Retrieves the current metrics published under a key.
      *
-     * @param className The class containing the method
-     * @param methodName The method being monitored
+     * @param key Key given to startMethodMonitoring
+     * @return Current thread metrics, or null once monitoring has stopped
      */
-    public void stopMethodMonitoring(String className, String methodName) {
-        String key = className + "." + methodName;
+    public ThreadMetrics getMethodMetrics(String key) {
         ThreadMetrics metrics = methodMetrics.get(key);
         if (metrics != null) {
-            // 마지막 상태 저장
-            lastMetrics.put(key, metrics.clone());
-
-            methodMetrics.remove(key);
-            threadToMethod.remove(metrics.getThreadId());
-            if (metrics.getChildThreads() != null) {
-                metrics.getChildThreads().keySet()
-                    .forEach(threadToMethod::remove);
-            }
+            updateMetrics(metrics);
         }
+        return metrics;
     }
 
     /**
-     * Registers a child thread with its parent thread for monitoring.
+     * Stops monitoring a method started by
+     * {@link #startMethodMonitoring(String, String, String)}. Must be called on the thread that
+     * started it, as it also ends the invocation there.
+     *
+     * @param key Key given to startMethodMonitoring
+     * @param metrics Metrics returned by startMethodMonitoring
+     */
+    public void stopMethodMonitoring(String key, ThreadMetrics metrics) {
+        methodMetrics.remove(key, metrics);
+        endInvocation(metrics);
+    }
+
+    /**
+     * Registers a child thread with the invocation currently running on the calling thread.
      * Enables tracking of thread hierarchies in complex operations.
      *
-     * @param parentThreadId ID of the parent thread
      * @param childThread The child thread to register
+     * @return Metrics of the child thread, or null if no invocation is running
      */
-    public void registerChildThread(long parentThreadId, Thread childThread) {
-        String methodKey = threadToMethod.get(parentThreadId);
-        if (methodKey != null) {
-            ThreadMetrics parentMetrics = methodMetrics.get(methodKey);
-            if (parentMetrics != null) {
-                ThreadMetrics childMetrics = ThreadMetrics.builder()
-                    .type(ThreadMetrics.MetricType.CHILD_THREAD)
-                    .threadId(childThread.getId())
-                    .threadName(childThread.getName())
-                    .parentThreadId(parentThreadId)
-                    .isDaemon(childThread.isDaemon())
-                    .priority(childThread.getPriority())
-                    .threadState(childThread.getState())
-                    .childThreads(new ConcurrentHashMap<>())
-                    .build();
-
-                parentMetrics.addChildThread(childMetrics);
-                threadToMethod.put(childThread.getId(), methodKey);
-
-                log.debug("Registered child thread: {} (ID: {}) for parent thread: {} (ID: {})",
-                    childThread.getName(), childThread.getId(),
-                    Thread.currentThread().getName(), parentThreadId);
-            }
+    public ThreadMetrics registerChildThread(Thread childThread) {
+        ThreadMetrics parentMetrics = InvocationContext.current();
+        if (parentMetrics == null) {
+            return null;
         }
+
+        Thread parentThread = Thread.currentThread();
+        ThreadMetrics childMetrics = ThreadMetrics.builder()
+            .type(ThreadMetrics.MetricType.CHILD_THREAD)
+            .threadId(childThread.getId())
+            .threadName(childThread.getName())
+            .parentThreadId(parentThread.getId())
+            .isDaemon(childThread.isDaemon())
+            .priority(childThread.getPriority())
+            .threadState(childThread.getState())
+            .childThreads(new ConcurrentHashMap<>())
+            .build();
+
+        parentMetrics.addChildThread(childMetrics);
+
+        log.debug("Registered child thread: {} (ID: {}) for parent thread: {} (ID: {})",
+            childThread.getName(), childThread.getId(),
+            parentThread.getName(), parentThread.getId());
+        return childMetrics;
     }
 }
\ No newline at end of file
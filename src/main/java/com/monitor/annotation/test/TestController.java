@@ -16,7 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/test")
 public class TestController {
 
-    @PerformanceMeasure("Simple API test")
+    @PerformanceMeasure(value = "Simple API test", maxOverheadPercent = 5)
     @GetMapping("/simple")
     public String simpleTest() {
         return "Hello World";
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.thread;
+
+import com.monitor.annotation.dto.ThreadMetrics;
+import com.monitor.annotation.metrics.ThreadAllocation;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Holds the monitored invocations running on each thread and carries them over to async tasks.
+ *
+ * A task wrapped on a thread inside a monitored invocation runs with that invocation as its
+ * context: monitored calls and child threads started by the task are attributed to it, and the
+ * task's wall time, CPU time and allocated bytes are added to the invocation's async totals.
+ * Tasks wrapped outside any invocation are returned unchanged.
+ *
+ * Spring executors get this through {@link #taskDecorator()}; other executors and
+ * CompletableFuture need the task or executor wrapped, for example
+ * {@code CompletableFuture.supplyAsync(InvocationContext.wrapSupplier(supplier))}.
+ *
+ * Tasks that run on the submitting thread itself, such as under CallerRunsPolicy, are already
+ * part of the invocation's own cost and are not added again. Work that finishes after the
+ * invocation has returned is not counted in it: the invocation is closed when it ends and
+ * ignores later records, so its stored metrics no longer change.
+ */
+public final class InvocationContext {
+
+    private static final ThreadLocal<Deque<ThreadMetrics>> INVOCATIONS =
+        ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED =
+        THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+
+    private InvocationContext() {
+    }
+
+    /**
+     * @return Innermost invocation running on the current thread, or null
+     */
+    public static ThreadMetrics current() {
+        return INVOCATIONS.get().peek();
+    }
+
+    /**
+     * Makes an invocation the current one of this thread until it is removed.
+     */
+    public static void push(ThreadMetrics invocation) {
+        INVOCATIONS.get().push(invocation);
+    }
+
+    /**
+     * Removes an invocation from this thread. Normally the current one; nested calls may
+     * complete out of order.
+     */
+    public static void remove(ThreadMetrics invocation) {
+        INVOCATIONS.get().removeFirstOccurrence(invocation);
+    }
+
+    /**
+     * @return Decorator running every task in the context of the submitting invocation
+     */
+    public static TaskDecorator taskDecorator() {
+        return InvocationContext::wrap;
+    }
+
+    public static Runnable wrap(Runnable task) {
+        ThreadMetrics invocation = current();
+        if (invocation == null) {
+            return task;
+        }
+        long submitter = Thread.currentThread().getId();
+        return () -> {
+            Scope scope = new Scope(invocation, submitter);
+            try {
+                task.run();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    public static <V> Callable<V> wrapCallable(Callable<V> task) {
+        ThreadMetrics invocation = current();
+        if (invocation == null) {
+            return task;
+        }
+        long submitter = Thread.currentThread().getId();
+        return () -> {
+            Scope scope = new Scope(invocation, submitter);
+            try {
+                return task.call();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    public static <T> Supplier<T> wrapSupplier(Supplier<T> task) {
+        ThreadMetrics invocation = current();
+        if (invocation == null) {
+            return task;
+        }
+        long submitter = Thread.currentThread().getId();
+        return () -> {
+            Scope scope = new Scope(invocation, submitter);
+            try {
+                return task.get();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    /**
+     * @return Executor wrapping every task at submission, e.g. for the async methods of
+     *     CompletableFuture
+     */
+    public static Executor wrap(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+
+    /**
+     * One task running in an invocation's context on a pool thread.
+     */
+    private static final class Scope {
+
+        private final ThreadMetrics invocation;
+        private final boolean measured;
+        private final long startNanos;
+        private final long startCpuNanos;
+        private final long startAllocated;
+
+        private Scope(ThreadMetrics invocation, long submitter) {
+            this.invocation = invocation;
+            this.measured = Thread.currentThread().getId() != submitter;
+            push(invocation);
+            this.startAllocated = measured ? ThreadAllocation.currentThread() : -1;
+            this.startCpuNanos = measured && CPU_TIME_SUPPORTED
+                ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+            this.startNanos = System.nanoTime();
+        }
+
+        private void close() {
+            long wallNanos = System.nanoTime() - startNanos;
+            remove(invocation);
+            if (!measured) {
+                return;
+            }
+            long cpuNanos = startCpuNanos != -1
+                ? THREAD_MX_BEAN.getCurrentThreadCpuTime() - startCpuNanos : 0;
+            long allocated = startAllocated != -1
+                ? ThreadAllocation.currentThread() - startAllocated : 0;
+            invocation.recordAsyncTask(wallNanos, cpuNanos, allocated);
+        }
+    }
+}
@@ -5,10 +5,13 @@
 
 package com.monitor.annotation.thread;
 
+import com.monitor.annotation.dto.ThreadMetrics;
+import com.monitor.annotation.metrics.ThreadAllocation;
 import com.monitor.annotation.service.ThreadMonitorService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Custom ThreadFactory that creates monitored threads for performance testing.
@@ -19,6 +22,12 @@ import java.util.concurrent.ThreadFactory;
  * - Maintaining thread hierarchy information
  * - Enabling detailed thread monitoring
  * - Correlating thread activities with their parent methods
+ *
+ * Each thread records the bytes it allocated when it finishes, since the counter of a
+ * terminated thread can no longer be read.
+ *
+ * Threads are linked to the invocation that created them; tasks later handed to pooled threads
+ * are attributed through {@link InvocationContext} instead.
  */
 @Component
 @RequiredArgsConstructor
@@ -36,10 +45,20 @@ public class MonitoredThreadFactory implements ThreadFactory {
      */
     @Override
     public Thread newThread(Runnable r) {
-        Thread parentThread = Thread.currentThread();
-        Thread thread = new Thread(r);
+        AtomicReference<ThreadMetrics> childMetrics = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                r.run();
+            } finally {
+                ThreadMetrics metrics = childMetrics.get();
+                long allocated = ThreadAllocation.currentThread();
+                if (metrics != null && allocated != -1) {
+                    metrics.setAllocatedBytes(allocated);
+                }
+            }
+        });
         // Registers the newly created thread as a child thread of the currently executing method.
-        threadMonitorService.registerChildThread(parentThread.getId(), thread);
+        childMetrics.set(threadMonitorService.registerChildThread(thread));
         return thread;
     }
 }
\ No newline at end of file
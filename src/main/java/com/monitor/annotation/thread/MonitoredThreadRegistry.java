@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.thread;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Live threads of the load-test pools, so their states can be counted without querying every
+ * thread of the JVM.
+ *
+ * Pools create their threads through {@link #wrap(ThreadFactory)}; each thread adds itself when
+ * it starts running and removes itself when it exits. {@link #census()} then reads the states
+ * of exactly these threads with one batched getThreadInfo call without stack traces, so its
+ * cost follows the pool sizes rather than the total thread count. Virtual threads are not
+ * visible to the ThreadMXBean; their state is read from the Thread itself.
+ */
+@Component
+public class MonitoredThreadRegistry {
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final Map<Long, Thread> threads = new ConcurrentHashMap<>();
+
+    /**
+     * @param factory Factory creating the pool's threads
+     * @return Factory whose threads are registered while they run
+     */
+    public ThreadFactory wrap(ThreadFactory factory) {
+        return runnable -> factory.newThread(() -> {
+            Thread current = Thread.currentThread();
+            threads.put(current.getId(), current);
+            try {
+                runnable.run();
+            } finally {
+                threads.remove(current.getId());
+            }
+        });
+    }
+
+    /**
+     * @return Number of registered threads
+     */
+    public int size() {
+        return threads.size();
+    }
+
+    /**
+     * Counts the registered threads by state.
+     *
+     * @return State counts of the threads alive at the time of the call
+     */
+    public Census census() {
+        Thread[] snapshot = threads.values().toArray(new Thread[0]);
+        long[] ids = new long[snapshot.length];
+        for (int i = 0; i < snapshot.length; i++) {
+            ids[i] = snapshot[i].getId();
+        }
+
+        ThreadInfo[] infos = threadMXBean.getThreadInfo(ids, 0);
+        Census census = new Census();
+        for (int i = 0; i < snapshot.length; i++) {
+            Thread.State state = infos[i] != null
+                ? infos[i].getThreadState()
+                : snapshot[i].getState();  // Virtual, or exited since the snapshot
+            census.count(state);
+        }
+        return census;
+    }
+
+    /**
+     * Thread counts by state.
+     */
+    @Getter
+    public static class Census {
+
+        private int runnable;
+        private int blocked;
+        private int waiting;
+        private int timedWaiting;
+
+        private void count(Thread.State state) {
+            switch (state) {
+                case RUNNABLE:
+                    runnable++;
+                    break;
+                case BLOCKED:
+                    blocked++;
+                    break;
+                case WAITING:
+                    waiting++;
+                    break;
+                case TIMED_WAITING:
+                    timedWaiting++;
+                    break;
+                default:
+                    break;  // NEW or TERMINATED: not running yet or already gone
+            }
+        }
+    }
+}
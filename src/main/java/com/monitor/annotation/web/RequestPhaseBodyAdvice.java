@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.web;
+
+import com.monitor.annotation.annotation.PerformanceMeasure;
+import com.monitor.annotation.metrics.RequestTimeline;
+import java.lang.reflect.Type;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks the request and response body conversion of @PerformanceMeasure handlers in the
+ * request's {@link RequestTimeline}, splitting message converter time from the handler itself.
+ */
+@ControllerAdvice
+public class RequestPhaseBodyAdvice extends RequestBodyAdviceAdapter
+    implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+        Class<? extends HttpMessageConverter<?>> converterType) {
+        return methodParameter.hasMethodAnnotation(PerformanceMeasure.class);
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter,
+        Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestTimeline timeline = currentTimeline();
+        if (timeline != null) {
+            timeline.bodyReadStarted();
+        }
+        return inputMessage;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage,
+        MethodParameter parameter, Type targetType,
+        Class<? extends HttpMessageConverter<?>> converterType) {
+        bodyReadFinished();
+        return body;
+    }
+
+    @Override
+    public Object handleEmptyBody(Object body, HttpInputMessage inputMessage,
+        MethodParameter parameter, Type targetType,
+        Class<? extends HttpMessageConverter<?>> converterType) {
+        bodyReadFinished();
+        return body;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType,
+        Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(PerformanceMeasure.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType,
+        MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+            && servletRequest.getServletRequest().getAttribute(RequestTimeline.ATTRIBUTE)
+            instanceof RequestTimeline timeline) {
+            timeline.bodyWriteStarted();
+        }
+        return body;
+    }
+
+    private void bodyReadFinished() {
+        RequestTimeline timeline = currentTimeline();
+        if (timeline != null) {
+            timeline.bodyReadFinished();
+        }
+    }
+
+    private static RequestTimeline currentTimeline() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+            && attributes.getAttribute(RequestTimeline.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+            instanceof RequestTimeline timeline ? timeline : null;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.web;
+
+import com.monitor.annotation.annotation.PerformanceMeasure;
+import com.monitor.annotation.metrics.RequestTimeline;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Marks the start and end of @PerformanceMeasure handlers in the request's
+ * {@link RequestTimeline}, keyed by HTTP method and mapping pattern. Requests to other
+ * handlers are not recorded.
+ */
+public class RequestPhaseInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+        Object handler) {
+        if (handler instanceof HandlerMethod method
+            && method.hasMethodAnnotation(PerformanceMeasure.class)
+            && request.getAttribute(RequestTimeline.ATTRIBUTE)
+            instanceof RequestTimeline timeline) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            timeline.handlerStarted(request.getMethod() + " "
+                + (pattern != null ? pattern : request.getRequestURI()));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+        Object handler, Exception ex) {
+        if (request.getAttribute(RequestTimeline.ATTRIBUTE) instanceof RequestTimeline timeline) {
+            timeline.handlerFinished();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.web;
+
+import com.monitor.annotation.metrics.RequestTimeline;
+import com.monitor.annotation.service.PerformanceMonitorService;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+
+/**
+ * First valve of the Tomcat engine. Starts a {@link RequestTimeline} for every request, from
+ * the time Tomcat started reading the request line, and once the pipeline returns, flushes the
+ * response of monitored endpoints and records the timeline with the
+ * {@link PerformanceMonitorService}.
+ *
+ * Requests that went async are not recorded, as their response is written after the pipeline
+ * returns. Time waiting for a connector thread is spent before Tomcat reads the request and is
+ * not part of the timeline; see the Tomcat pool in the executor metrics for that.
+ */
+public class RequestPhaseValve extends ValveBase {
+
+    private final PerformanceMonitorService performanceMonitorService;
+
+    public RequestPhaseValve(PerformanceMonitorService performanceMonitorService) {
+        super(true);
+        this.performanceMonitorService = performanceMonitorService;
+    }
+
+    @Override
+    public void invoke(Request request, Response response) throws IOException, ServletException {
+        RequestTimeline timeline = new RequestTimeline(
+            request.getCoyoteRequest().getStartTimeNanos(), System.nanoTime());
+        request.setAttribute(RequestTimeline.ATTRIBUTE, timeline);
+
+        getNext().invoke(request, response);
+
+        if (timeline.getEndpoint() == null || request.isAsyncStarted()) {
+            return;
+        }
+        long chainEnd = System.nanoTime();
+        try {
+            response.flushBuffer();
+        } catch (IOException e) {
+            // Client went away; Tomcat deals with it when finishing the response
+        }
+        timeline.completed(chainEnd, System.nanoTime(), response.getStatus());
+        performanceMonitorService.recordRequest(timeline);
+    }
+}
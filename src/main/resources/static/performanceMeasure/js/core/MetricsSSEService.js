@@ -4,10 +4,16 @@
  */
 
 const {Subject} = window.rxjs;
+import {decodeMetricsMessage} from '../utils/cbor.js';
 
 /**
  * Service for managing Server-Sent Events (SSE) connections for metrics streaming.
  * Handles real-time metrics data flow and connection lifecycle.
+ * The server sends one SNAPSHOT followed by DELTA messages; deltas are merged into the
+ * snapshot so subscribers always receive the full test status. Reconnects resume from
+ * the last event id instead of downloading the history again.
+ * With the cbor wire format (?wireFormat=cbor on the page URL, or setWireFormat) the same
+ * messages are received as compact binary WebSocket messages instead.
  * SSE 연결을 관리하는 서비스
  * 메트릭 스트리밍을 처리
  * 실시간 메트릭 데이터 흐름 및 연결 생명주기 관리
@@ -27,6 +33,22 @@ class MetricsSSEService {
     this.currentTestId = null;
     this.isConnectionActive = false;
     this.reconnectTimeoutId = null;
+    this.lastEventId = null;
+    this.testState = null;
+    this.MAX_RESPONSE_TIMES = 1000;
+    this.socket = null;
+    this.wireFormat = new URLSearchParams(window.location.search).get('wireFormat') === 'cbor'
+        ? 'cbor' : 'json';
+  }
+
+  /**
+   * Selects the encoding used by the next connection.
+   * 다음 연결에서 사용할 인코딩 선택
+   *
+   * @param {string} format - 'json' for SSE, 'cbor' for binary WebSocket messages
+   */
+  setWireFormat(format) {
+    this.wireFormat = format === 'cbor' && 'WebSocket' in window ? 'cbor' : 'json';
   }
 
   /**
@@ -49,6 +71,10 @@ class MetricsSSEService {
       return this.messages$;
     }
 
+    if (this.currentTestId !== testId) {
+      this.lastEventId = null;
+      this.testState = null;
+    }
     this.currentTestId = testId;
     this.establishConnection();
     return this.messages$;
@@ -61,12 +87,20 @@ class MetricsSSEService {
    * 연결 상태 관리 및 에러 처리
    */
   establishConnection() {
+    if (this.wireFormat === 'cbor') {
+      this.establishWebSocket();
+      return;
+    }
+
     if (this.eventSource?.readyState === 1) { // OPEN
       console.log('[SSE] Connection already established');
       return;
     }
 
-    const url = `/performanceMeasure/metrics/stream/${this.currentTestId}`;
+    let url = `/performanceMeasure/metrics/stream/${this.currentTestId}`;
+    if (this.lastEventId && this.testState) {
+      url += `?lastEventId=${encodeURIComponent(this.lastEventId)}`;
+    }
 
     try {
       if (this.eventSource) {
@@ -85,13 +119,7 @@ class MetricsSSEService {
 
       this.eventSource.onmessage = (event) => {
         try {
-          const data = JSON.parse(event.data);
-          this.messages$.next(data);
-
-          if (data.testStatus?.completed) {
-            console.log('[SSE] Test completed, closing connection');
-            this.cleanup(true);
-          }
+          this.handleMessage(JSON.parse(event.data), event.lastEventId);
         } catch (error) {
           console.error('[SSE] Error processing message:', error);
         }
@@ -120,6 +148,125 @@ class MetricsSSEService {
     }
   }
 
+  /**
+   * Creates a WebSocket connection asking for compact binary messages.
+   * The server falls back to JSON text messages if it does not offer the binary format.
+   * 바이너리 메시지를 요청하는 WebSocket 연결 생성
+   */
+  establishWebSocket() {
+    if (this.socket?.readyState === 1) { // OPEN
+      console.log('[WS] Connection already established');
+      return;
+    }
+
+    const scheme = window.location.protocol === 'https:' ? 'wss' : 'ws';
+    const path = `/performanceMeasure/metrics/ws/${this.currentTestId}`;
+    let url = `${scheme}://${window.location.host}${path}`;
+    if (this.lastEventId && this.testState) {
+      url += `?lastEventId=${encodeURIComponent(this.lastEventId)}`;
+    }
+
+    try {
+      if (this.socket) {
+        this.socket.onclose = null;
+        this.socket.close();
+        this.socket = null;
+      }
+
+      console.log('[WS] Establishing new connection...');
+      const socket = new WebSocket(url, ['metrics.cbor', 'metrics.json']);
+      socket.binaryType = 'arraybuffer';
+      this.socket = socket;
+
+      socket.onopen = () => {
+        console.log(`[WS] Connection established (${socket.protocol || 'metrics.json'})`);
+        this.isConnectionActive = true;
+        this.reconnectAttempts = 0;
+      };
+
+      socket.onmessage = (event) => {
+        try {
+          const message = event.data instanceof ArrayBuffer
+              ? decodeMetricsMessage(event.data)
+              : JSON.parse(event.data);
+          this.handleMessage(message, message.id);
+        } catch (error) {
+          console.error('[WS] Error processing message:', error);
+        }
+      };
+
+      socket.onclose = (event) => {
+        console.log(`[WS] Connection closed (code: ${event.code})`);
+        this.isConnectionActive = false;
+        if (this.socket === socket) {
+          this.socket = null;
+        }
+        if (!this.isTestCompleted) {
+          this.handleReconnection();
+        }
+      };
+    } catch (error) {
+      console.error('[WS] Failed to establish connection:', error);
+      this.handleReconnection();
+    }
+  }
+
+  /**
+   * Applies a received message, publishes the merged result and closes the connection
+   * once the test has completed.
+   * 수신한 메시지를 적용하고 테스트 완료 시 연결 종료
+   *
+   * @param {Object} message - Message received from the server
+   * @param {string} eventId - Resume token of the message
+   */
+  handleMessage(message, eventId) {
+    const data = this.applyMessage(message);
+    this.lastEventId = eventId || this.lastEventId;
+    this.messages$.next(data);
+
+    if (data.testStatus?.completed) {
+      console.log('[SSE] Test completed, closing connection');
+      this.cleanup(true);
+    }
+  }
+
+  /**
+   * Merges a SNAPSHOT or DELTA message into the locally held test status.
+   * 스냅샷 또는 델타 메시지를 로컬 테스트 상태에 병합
+   *
+   * @param {Object} message - Message received from the server
+   * @returns {Object} Message with the full, merged test status
+   */
+  applyMessage(message) {
+    if (message.type !== 'DELTA' || !this.testState) {
+      this.testState = {
+        ...message.testStatus,
+        memoryMetrics: [...(message.testStatus?.memoryMetrics ?? [])],
+        responseTimes: [...(message.testStatus?.responseTimes ?? [])]
+      };
+    } else {
+      Object.assign(this.testState, message.progress);
+      this.testState.memoryMetrics.push(...(message.memoryMetrics ?? []));
+      this.testState.responseTimes.push(...(message.responseTimes ?? []));
+
+      const excess = this.testState.responseTimes.length - this.MAX_RESPONSE_TIMES;
+      if (excess > 0) {
+        this.testState.responseTimes.splice(0, excess);
+      }
+    }
+
+    if (message.threadMetrics) {
+      this.testState.threadMetrics = message.threadMetrics;
+    }
+
+    return {
+      status: message.status,
+      testStatus: {...this.testState},
+      threadMetrics: message.threadMetrics,
+      metrics: message.metrics
+    };
+  }
+
   /**
    * Handles reconnection attempts using exponential backoff.
    * Manages reconnection timing and maximum retry attempts.
@@ -170,8 +317,16 @@ class MetricsSSEService {
       this.eventSource = null;
     }
 
+    if (this.socket) {
+      this.socket.onclose = null;
+      this.socket.close();
+      this.socket = null;
+    }
+
     this.isConnectionActive = false;
     this.currentTestId = null;
+    this.lastEventId = null;
+    this.testState = null;
     this.reconnectAttempts = 0;
     this.isTestCompleted = isNormalClosure;
 
@@ -7,6 +7,41 @@ const { Subject, BehaviorSubject } = window.rxjs;
 const { filter, map, bufferTime, share, distinctUntilChanged } = window.rxjs.operators;
 import {metricsService} from './MetricsSSEService.js';
 
+/**
+ * Captures what identifies a state at emit time: scalar fields, the scalar fields of nested
+ * objects such as latency, and the length of sample arrays. The arrays are shared with later
+ * states and grow in place, so they cannot be compared after the fact.
+ * 방출 시점의 스칼라 필드와 샘플 개수로 상태를 식별
+ *
+ * @param {Object} state - Test status or thread metrics
+ * @param {number} depth - Levels of nested objects to include
+ * @returns {string} Key equal for states that render the same
+ */
+function stateKey(state, depth = 1) {
+  return Object.keys(state).map(key => {
+    const value = state[key];
+    if (Array.isArray(value)) {
+      return key + '#' + value.length;
+    }
+    if (value !== null && typeof value === 'object') {
+      return depth > 0 ? key + '{' + stateKey(value, depth - 1) + '}' : key;
+    }
+    return key + '=' + value;
+  }).join(',');
+}
+
+/**
+ * Emits only states whose key differs from the previous one.
+ * 키가 바뀐 상태만 방출
+ */
+function distinctState() {
+  return source => source.pipe(
+      map(state => ({state, key: stateKey(state)})),
+      distinctUntilChanged((prev, curr) => prev.key === curr.key),
+      map(({state}) => state)
+  );
+}
+
 class RxMetricsService {
   constructor() {
     this.activeTestId$ = new BehaviorSubject(null);
@@ -23,16 +58,14 @@ class RxMetricsService {
     this.status$ = this.metrics$.pipe(
         map(data => data.testStatus),
         filter(status => !!status),
-        distinctUntilChanged(
-            (prev, curr) => JSON.stringify(prev) === JSON.stringify(curr)),
+        distinctState(),
         share()
     );
 
     this.threadMetrics$ = this.metrics$.pipe(
         map(data => data.threadMetrics),
         filter(metrics => !!metrics),
-        distinctUntilChanged(
-            (prev, curr) => JSON.stringify(prev) === JSON.stringify(curr)),
+        distinctState(),
         share()
     );
   }
@@ -140,7 +140,8 @@ class MainManager {
       concurrentUsers: parseInt(
           document.getElementById('concurrentUsers').value),
       repeatCount: parseInt(document.getElementById('repeatCount').value),
-      rampUpSeconds: parseInt(document.getElementById('rampUpSeconds').value)
+      rampUpSeconds: parseInt(document.getElementById('rampUpSeconds').value),
+      responseTimeSampleSize: 1000
     };
 
     try {
@@ -158,7 +159,7 @@ class MainManager {
         metricsService.connect(testId);
         await this.pollTestStatus(testId);
       } else {
-        throw new Error('Failed to start test');
+        throw new Error(await response.text() || 'Failed to start test');
       }
     } catch (error) {
       this.showError('Error starting test: ' + error.message);
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+/**
+ * Decoder for the compact binary metrics stream (WebSocket subprotocol metrics.cbor).
+ * The server writes CBOR (RFC 8949) with timestamps as epoch milliseconds and each
+ * MemoryMetrics sample as a positional array; the field orders below must match
+ * MetricsCborEncoder on the server.
+ * 압축 바이너리 메트릭 스트림 디코더
+ */
+
+const MEMORY_METRICS_FIELDS = [
+  'timestamp',
+  'heapUsed', 'heapMax', 'youngGenUsed', 'oldGenUsed',
+  'nonHeapUsed', 'nonHeapCommitted', 'nonHeapMax', 'metaspaceUsed', 'metaspaceCommitted',
+  'youngGcCount', 'oldGcCount', 'youngGcTime', 'oldGcTime',
+  'threadCount', 'daemonThreadCount', 'peakThreadCount', 'deadlockedThreads',
+  'performanceThreadPool',
+  'allocationRate', 'concurrentGcCount', 'concurrentGcTime',
+  'threadPools'
+];
+
+const THREAD_POOL_FIELDS = [
+  'activeThreads', 'poolSize', 'corePoolSize', 'maxPoolSize', 'taskCount',
+  'completedTaskCount', 'queueSize', 'waitingThreads', 'blockedThreads', 'runningThreads'
+];
+
+const BREAK = Symbol('break');
+const textDecoder = new TextDecoder();
+
+/**
+ * Decodes one CBOR data item.
+ * @param {ArrayBuffer} buffer - Encoded message
+ * @returns {*} Decoded value
+ */
+function decodeCbor(buffer) {
+  const view = new DataView(buffer);
+  const bytes = new Uint8Array(buffer);
+  let offset = 0;
+
+  function readLength(info) {
+    if (info < 24) {
+      return info;
+    }
+    let value;
+    switch (info) {
+      case 24:
+        value = view.getUint8(offset);
+        offset += 1;
+        return value;
+      case 25:
+        value = view.getUint16(offset);
+        offset += 2;
+        return value;
+      case 26:
+        value = view.getUint32(offset);
+        offset += 4;
+        return value;
+      case 27:
+        value = Number(view.getBigUint64(offset));
+        offset += 8;
+        return value;
+      case 31:
+        return -1; // Indefinite length
+      default:
+        throw new Error(`Invalid CBOR length encoding: ${info}`);
+    }
+  }
+
+  function readHalfFloat() {
+    const half = view.getUint16(offset);
+    offset += 2;
+    const exponent = (half >> 10) & 0x1f;
+    const fraction = half & 0x3ff;
+    const sign = half & 0x8000 ? -1 : 1;
+    if (exponent === 0) {
+      return sign * fraction * Math.pow(2, -24);
+    }
+    if (exponent === 31) {
+      return fraction ? NaN : sign * Infinity;
+    }
+    return sign * (1 + fraction / 1024) * Math.pow(2, exponent - 15);
+  }
+
+  function readChunks(major, length, read) {
+    if (length >= 0) {
+      return read(length);
+    }
+    const chunks = [];
+    let item;
+    while ((item = readItem()) !== BREAK) {
+      chunks.push(item);
+    }
+    if (major === 3) {
+      return chunks.join('');
+    }
+    const joined = new Uint8Array(chunks.reduce((total, chunk) => total + chunk.length, 0));
+    chunks.reduce((position, chunk) => {
+      joined.set(chunk, position);
+      return position + chunk.length;
+    }, 0);
+    return joined;
+  }
+
+  function readItem() {
+    const initial = view.getUint8(offset++);
+    const major = initial >> 5;
+    const info = initial & 0x1f;
+
+    if (major === 7) {
+      switch (info) {
+        case 20:
+          return false;
+        case 21:
+          return true;
+        case 22:
+        case 23:
+          return null;
+        case 25:
+          return readHalfFloat();
+        case 26: {
+          const value = view.getFloat32(offset);
+          offset += 4;
+          return value;
+        }
+        case 27: {
+          const value = view.getFloat64(offset);
+          offset += 8;
+          return value;
+        }
+        case 31:
+          return BREAK;
+        default:
+          offset += info === 24 ? 1 : 0; // Unassigned simple value
+          return null;
+      }
+    }
+
+    const length = readLength(info);
+    switch (major) {
+      case 0:
+        return length;
+      case 1:
+        return -1 - length;
+      case 2:
+        return readChunks(major, length, n => {
+          const value = bytes.slice(offset, offset + n);
+          offset += n;
+          return value;
+        });
+      case 3:
+        return readChunks(major, length, n => {
+          const value = textDecoder.decode(bytes.subarray(offset, offset + n));
+          offset += n;
+          return value;
+        });
+      case 4: {
+        const array = [];
+        if (length >= 0) {
+          for (let i = 0; i < length; i++) {
+            array.push(readItem());
+          }
+        } else {
+          let item;
+          while ((item = readItem()) !== BREAK) {
+            array.push(item);
+          }
+        }
+        return array;
+      }
+      case 5: {
+        const object = {};
+        if (length >= 0) {
+          for (let i = 0; i < length; i++) {
+            const key = readItem();
+            object[key] = readItem();
+          }
+        } else {
+          let key;
+          while ((key = readItem()) !== BREAK) {
+            object[key] = readItem();
+          }
+        }
+        return object;
+      }
+      case 6:
+        return readItem(); // Tags carry no meaning for the metrics stream
+      default:
+        throw new Error(`Invalid CBOR major type: ${major}`);
+    }
+  }
+
+  return readItem();
+}
+
+/**
+ * Converts a positional array back into an object with the given field names.
+ * @param {Array} values - Positional values
+ * @param {string[]} fields - Field names in wire order
+ * @returns {Object} Object with named fields
+ */
+function toObject(values, fields) {
+  if (!Array.isArray(values)) {
+    return values;
+  }
+  const object = {};
+  fields.forEach((field, index) => {
+    object[field] = values[index];
+  });
+  return object;
+}
+
+function expandMemoryMetrics(values) {
+  const metrics = toObject(values, MEMORY_METRICS_FIELDS);
+  if (metrics) {
+    metrics.performanceThreadPool = toObject(metrics.performanceThreadPool,
+        THREAD_POOL_FIELDS);
+    if (metrics.threadPools) {
+      Object.keys(metrics.threadPools).forEach(name => {
+        metrics.threadPools[name] = toObject(metrics.threadPools[name], THREAD_POOL_FIELDS);
+      });
+    }
+  }
+  return metrics;
+}
+
+/**
+ * Decodes a binary metrics stream message into the same shape as its JSON form.
+ * 바이너리 메시지를 JSON 메시지와 동일한 형태로 디코딩
+ * @param {ArrayBuffer} buffer - Binary WebSocket message
+ * @returns {Object} Metrics stream message
+ */
+function decodeMetricsMessage(buffer) {
+  const message = decodeCbor(buffer);
+  if (message.metrics) {
+    message.metrics = expandMemoryMetrics(message.metrics);
+  }
+  if (message.memoryMetrics) {
+    message.memoryMetrics = message.memoryMetrics.map(expandMemoryMetrics);
+  }
+  if (message.testStatus?.memoryMetrics) {
+    message.testStatus.memoryMetrics =
+        message.testStatus.memoryMetrics.map(expandMemoryMetrics);
+  }
+  return message;
+}
+
+export {
+  decodeCbor,
+  decodeMetricsMessage
+};
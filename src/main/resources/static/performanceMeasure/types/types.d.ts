@@ -32,6 +32,10 @@ interface StatusResponse {
   completed: boolean;             // 테스트 완료 여부
   totalRequests?: number;         // 총 요청 수
   responseTimes?: number[];       // 응답 시간 배열
+  latency?: LatencySnapshot;      // 응답 시간 분포 (히스토그램 요약)
+  connectionMetrics?: ConnectionMetrics; // 클라이언트 연결 통계 (풀 대기, 연결 시간, 재사용)
+  gcImpact?: GcImpact;            // 테스트 중 GC 일시 정지와 영향받은 요청
+  profile?: ProfileSummary;       // JFR 프로파일 (profiling 요청 시 테스트 종료 후)
 
   // REST API 응답 필드
   endpointUrl?: string;
@@ -65,11 +69,77 @@ interface StatusResponse {
   memoryMetrics?: MemoryMetrics[]; // 히스토리 메트릭 배열
 }
 
+interface LatencySnapshot {
+  count: number;
+  min: number;
+  max: number;
+  mean: number;
+  p50: number;
+  p90: number;
+  p99: number;
+  p999: number;
+}
+
+interface ConnectionMetrics {
+  leases: number;
+  reusedConnections: number;
+  openedConnections: number;
+  closedConnections: number;
+  reuseRatio: number;
+  averagePoolWaitMs: number;
+  maxPoolWaitMs: number;
+  averageConnectTimeMs: number;
+  maxConnectTimeMs: number;
+}
+
+interface GcImpact {
+  pauseCount: number;
+  totalPauseMillis: number;
+  maxPauseMillis: number;
+  affectedRequests: number;       // 일시 정지 중 처리 중이던 요청 수
+  affectedRequestRatio: number;
+  pauses?: GcPause[];             // 최근 일시 정지 (델타 메시지에서는 생략)
+}
+
+interface ProfileSummary {
+  startTime: Date;
+  endTime: Date;
+  executionSamples: number;
+  hotMethods: Array<{ method: string; samples: number; percent: number }>;
+  sampledAllocationBytes: number;
+  allocationSites: Array<{ site: string; objectClass: string; bytes: number; percent: number }>;
+  lockContention: Array<{
+    kind: 'MONITOR_ENTER' | 'THREAD_PARK';
+    lockClass: string;
+    site: string;
+    events: number;
+    totalMillis: number;
+    maxMillis: number;
+  }>;
+  gcCount: number;
+  totalGcPauseMillis: number;
+  longestGcPauseMillis: number;
+}
+
+interface GcPause {
+  startTime: Date;
+  gcName: string;
+  gcCause: string;
+  durationMillis: number;
+  reclaimedBytes: number;
+  inFlightRequests: number;
+}
+
 interface ThreadMetrics {
   threadName?: string;
   threadId?: string;
   threadCpuTime?: number;
   threadUserTime?: number;
+  allocatedBytes?: number;        // 자식 스레드가 할당한 힙 바이트
+  asyncTaskCount?: number;        // 이 호출의 컨텍스트로 다른 스레드에서 실행된 작업 수
+  asyncWallTime?: number;         // 작업 실행 시간 합계 (ns)
+  asyncCpuTime?: number;          // 작업 CPU 시간 (ns)
+  asyncAllocatedBytes?: number;   // 작업이 할당한 힙 바이트
   threadState?: string;
   priority?: number;
   isDaemon?: boolean;
@@ -93,6 +163,7 @@ interface MemoryMetrics {
   heapMax: number;
   youngGenUsed: number;
   oldGenUsed: number;
+  allocationRate: number;
   nonHeapUsed: number;
   nonHeapCommitted: number;
   metaspaceUsed: number;
@@ -100,15 +171,22 @@ interface MemoryMetrics {
   oldGcCount: number;
   youngGcTime: number;
   oldGcTime: number;
+  concurrentGcCount: number;
+  concurrentGcTime: number;
   threadCount: number;
   performanceThreadPool: ThreadPoolMetrics;
+  /** Every monitored executor, by bean name (also commonPool and tomcat-http-{port}) */
+  threadPools?: Record<string, ThreadPoolMetrics>;
 }
 
 interface ThreadPoolMetrics {
   activeThreads: number;
   queueSize: number;
   poolSize: number;
+  corePoolSize: number;
   maxPoolSize: number;
+  taskCount: number;
+  completedTaskCount: number;
   runningThreads: number;
   waitingThreads: number;
   blockedThreads: number;
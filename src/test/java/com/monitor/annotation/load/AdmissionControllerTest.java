@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdmissionControllerTest {
+
+    @Test
+    void admitsUpToTheMaximumNumberOfTests() {
+        AdmissionController admission = new AdmissionController(2, 10, 5);
+
+        assertTrue(admission.tryBeginTest());
+        assertTrue(admission.tryBeginTest());
+        assertFalse(admission.tryBeginTest());
+        assertEquals(2, admission.getRunningTests());
+
+        admission.endTest();
+        assertEquals(1, admission.getRunningTests());
+        assertTrue(admission.tryBeginTest());
+    }
+
+    @Test
+    void requestPermitsAreSharedAndReleased() {
+        AdmissionController admission = new AdmissionController(2, 3, 5);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(admission.tryAcquireRequest());
+        }
+        assertFalse(admission.tryAcquireRequest());
+        assertEquals(3, admission.getInFlightRequests());
+
+        admission.releaseRequest();
+        assertEquals(2, admission.getInFlightRequests());
+        assertTrue(admission.tryAcquireRequest());
+    }
+
+    @Test
+    void timedAcquireGivesUpWhenNoPermitIsReleased() throws InterruptedException {
+        AdmissionController admission = new AdmissionController(1, 1, 5);
+        assertTrue(admission.tryAcquireRequest());
+
+        assertFalse(admission.tryAcquireRequest(10, TimeUnit.MILLISECONDS));
+        assertEquals(1, admission.getInFlightRequests());
+    }
+
+    @Test
+    void timedAcquireWaitsForARelease() throws InterruptedException {
+        AdmissionController admission = new AdmissionController(1, 1, 5);
+        assertTrue(admission.tryAcquireRequest());
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            admission.releaseRequest();
+        });
+        releaser.start();
+
+        assertTrue(admission.tryAcquireRequest(10, TimeUnit.SECONDS));
+        releaser.join();
+        assertEquals(1, admission.getInFlightRequests());
+    }
+
+    @Test
+    void reportsConfiguredLimits() {
+        AdmissionController admission = new AdmissionController(4, 100, 20);
+
+        assertEquals(4, admission.getMaxConcurrentTests());
+        assertEquals(100, admission.getMaxInFlightRequests());
+        assertEquals(20, admission.getMaxUserThreadsPerTest());
+        assertEquals(0, admission.getRunningTests());
+        assertEquals(0, admission.getInFlightRequests());
+    }
+}
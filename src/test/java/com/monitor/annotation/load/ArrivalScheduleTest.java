@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ArrivalScheduleTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void constantRateSpacesArrivalsEvenly() {
+        List<Long> offsets = drain(ArrivalSchedule.constant(10, 2));
+
+        assertEquals(20, offsets.size());
+        for (int k = 0; k < offsets.size(); k++) {
+            assertEquals(k * SECOND / 10, offsets.get(k), 1_000);
+        }
+    }
+
+    @Test
+    void rampFollowsTheIntegralOfTheRate() {
+        // Rate 0 -> 10/s over 10 s: n(t) = t^2 / 2, so arrival k is at sqrt(2k)
+        List<Long> offsets = drain(new ArrivalSchedule().addStage(10, 10, true));
+
+        assertEquals(50, offsets.size());
+        for (int k = 0; k < offsets.size(); k++) {
+            assertEquals(Math.sqrt(2.0 * k) * SECOND, offsets.get(k), 1_000);
+        }
+    }
+
+    @Test
+    void arrivalsStayWithinTheirStage() {
+        List<Long> offsets = drain(new ArrivalSchedule()
+            .addStage(4, 5, false)      // 20 arrivals in [0 s, 4 s)
+            .addStage(2, 15, true)      // (5 + 15) / 2 * 2 = 20 arrivals in [4 s, 6 s)
+            .addStage(3, 0, false));    // No arrivals
+
+        assertEquals(40, offsets.size());
+        for (int k = 0; k < 20; k++) {
+            assertTrue(offsets.get(k) < 4 * SECOND, "arrival " + k);
+        }
+        for (int k = 20; k < 40; k++) {
+            long offset = offsets.get(k);
+            assertTrue(offset >= 4 * SECOND && offset < 6 * SECOND, "arrival " + k);
+        }
+        for (int k = 1; k < offsets.size(); k++) {
+            assertTrue(offsets.get(k) >= offsets.get(k - 1), "arrivals are ordered");
+        }
+    }
+
+    @Test
+    void exhaustedScheduleKeepsReturningMinusOne() {
+        ArrivalSchedule schedule = ArrivalSchedule.constant(1, 1);
+
+        assertEquals(0, schedule.nextArrivalOffsetNanos());
+        assertEquals(-1, schedule.nextArrivalOffsetNanos());
+        assertEquals(-1, schedule.nextArrivalOffsetNanos());
+    }
+
+    @Test
+    void rejectsInvalidStages() {
+        assertThrows(IllegalArgumentException.class, () -> ArrivalSchedule.constant(10, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ArrivalSchedule().addStage(5, -1, false));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ArrivalSchedule().addStage(5, Double.NaN, false));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ArrivalSchedule().addStage(5, Double.POSITIVE_INFINITY, true));
+    }
+
+    private static List<Long> drain(ArrivalSchedule schedule) {
+        List<Long> offsets = new ArrayList<>();
+        long offset;
+        while ((offset = schedule.nextArrivalOffsetNanos()) >= 0) {
+            offsets.add(offset);
+        }
+        return offsets;
+    }
+}
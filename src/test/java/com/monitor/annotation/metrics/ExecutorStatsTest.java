@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs decorated tasks by hand in place of a pool, so that the number of busy workers is known
+ * at every submission.
+ */
+class ExecutorStatsTest {
+
+    private static final Runnable NOOP = () -> { };
+
+    @Test
+    void countsTasksThroughTheirLifecycle() {
+        ExecutorStats stats = new ExecutorStats(() -> 2);
+
+        Runnable first = stats.taskDecorator().decorate(NOOP);
+        Runnable second = stats.taskDecorator().decorate(NOOP);
+        assertEquals(2, stats.getSubmitted());
+        assertEquals(2, stats.getWaiting());
+
+        first.run();
+        second.run();
+        assertEquals(0, stats.getWaiting());
+        assertEquals(2, stats.getCompleted());
+        assertEquals(2, stats.queueWait().getCount());
+        assertEquals(2, stats.runTime().getCount());
+    }
+
+    @Test
+    void countsFailedTasks() {
+        ExecutorStats stats = new ExecutorStats(() -> 1);
+        Runnable failing = stats.taskDecorator().decorate(() -> {
+            throw new IllegalStateException("failed");
+        });
+
+        assertThrows(IllegalStateException.class, failing::run);
+        assertEquals(1, stats.getFailed());
+        assertEquals(0, stats.getCompleted());
+        assertEquals(0, stats.getWaiting());
+    }
+
+    @Test
+    void tasksHandedToAnIdleWorkerAreNotSaturation() throws InterruptedException {
+        ExecutorStats stats = new ExecutorStats(() -> 2);
+
+        Runnable first = stats.taskDecorator().decorate(NOOP);
+        Runnable second = stats.taskDecorator().decorate(NOOP);
+        Thread.sleep(20);
+        first.run();
+        second.run();
+
+        assertEquals(0, stats.saturatedNanos());
+    }
+
+    @Test
+    void countsSaturationWhileEveryWorkerIsBusy() throws InterruptedException {
+        ExecutorStats stats = new ExecutorStats(() -> 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable busy = stats.taskDecorator().decorate(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        Thread worker = new Thread(busy);
+        worker.start();
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        Runnable queued = stats.taskDecorator().decorate(NOOP);
+        Thread.sleep(20);
+        assertTrue(stats.saturatedNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+
+        release.countDown();
+        worker.join();
+        queued.run();
+        long saturated = stats.saturatedNanos();
+        Thread.sleep(20);
+
+        // The period ended when the queued task was picked up
+        assertEquals(saturated, stats.saturatedNanos());
+        assertEquals(2, stats.getCompleted());
+    }
+
+    @Test
+    void rejectedTasksLeaveTheQueue() throws InterruptedException {
+        ExecutorStats stats = new ExecutorStats(() -> 0);
+        Runnable task = stats.taskDecorator().decorate(NOOP);
+        Thread.sleep(5);
+
+        stats.rejectionHandler((runnable, executor) -> { }).rejectedExecution(task, null);
+        long saturated = stats.saturatedNanos();
+        Thread.sleep(20);
+
+        assertEquals(1, stats.getRejected());
+        assertEquals(0, stats.getWaiting());
+        assertTrue(saturated > 0);
+        assertEquals(saturated, stats.saturatedNanos());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
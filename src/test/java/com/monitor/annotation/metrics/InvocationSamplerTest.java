@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class InvocationSamplerTest {
+
+    private static final long INITIAL_COST = 50_000;
+
+    @Test
+    void fixedRateSamplesEveryNthCall() {
+        InvocationSampler sampler = new InvocationSampler(3, 0);
+
+        StringBuilder pattern = new StringBuilder();
+        for (int i = 0; i < 7; i++) {
+            pattern.append(sampler.reserveSample() >= 0 ? 'S' : '-');
+        }
+        assertEquals("S--S--S", pattern.toString());
+    }
+
+    @Test
+    void fixedRateReservesNoBudget() {
+        InvocationSampler sampler = new InvocationSampler(1, 0);
+
+        assertEquals(0, sampler.reserveSample());
+        assertEquals(0, sampler.reserveSample());
+    }
+
+    @Test
+    void adaptiveSamplingIsLimitedByTheBudget() {
+        InvocationSampler sampler = new InvocationSampler(1, 1.0);
+
+        // The budget starts with one capture's estimated cost
+        assertEquals(INITIAL_COST, sampler.reserveSample());
+        assertEquals(-1, sampler.reserveSample());
+
+        // 1% of 5 ms earns exactly one more capture
+        sampler.recordExecution(TimeUnit.MILLISECONDS.toNanos(5));
+        assertEquals(INITIAL_COST, sampler.reserveSample());
+        assertEquals(-1, sampler.reserveSample());
+    }
+
+    @Test
+    void budgetIsCappedToAShortBurst() {
+        InvocationSampler sampler = new InvocationSampler(1, 1.0);
+        sampler.recordExecution(TimeUnit.SECONDS.toNanos(10));
+
+        assertEquals(4, drain(sampler));
+    }
+
+    @Test
+    void settlementRefundsAgainstTheReservedAmount() {
+        InvocationSampler sampler = new InvocationSampler(1, 1.0);
+        sampler.recordExecution(TimeUnit.SECONDS.toNanos(1));
+        long[] reserved = new long[4];
+        for (int i = 0; i < reserved.length; i++) {
+            reserved[i] = sampler.reserveSample();
+            assertEquals(INITIAL_COST, reserved[i]);
+        }
+
+        // Cheap captures lower the estimate before the first one is settled
+        for (int i = 1; i < reserved.length; i++) {
+            sampler.recordSampleCost(reserved[i], 0);
+        }
+        sampler.recordSampleCost(reserved[0], INITIAL_COST);
+
+        // Budget: 3 refunds of 50 000 = 150 000; estimate after the four settlements = 35 559
+        assertEquals(4, drain(sampler));
+    }
+
+    @Test
+    void costEstimateFollowsMeasuredCost() {
+        InvocationSampler sampler = new InvocationSampler(1, 1.0);
+        for (int i = 0; i < 100; i++) {
+            sampler.recordExecution(TimeUnit.SECONDS.toNanos(1));
+            long reserved = sampler.reserveSample();
+            assertTrue(reserved > 0);
+            sampler.recordSampleCost(reserved, 10_000);
+        }
+
+        long reserved = sampler.reserveSample();
+        assertTrue(reserved >= 10_000 && reserved < 10_100, "estimate was " + reserved);
+    }
+
+    private static int drain(InvocationSampler sampler) {
+        int samples = 0;
+        while (sampler.reserveSample() >= 0) {
+            samples++;
+        }
+        return samples;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import static com.monitor.annotation.metrics.JvmMemoryRegistry.classifyCollector;
+import static com.monitor.annotation.metrics.JvmMemoryRegistry.classifyPool;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.monitor.annotation.metrics.JvmMemoryRegistry.GcCategory;
+import com.monitor.annotation.metrics.JvmMemoryRegistry.PoolCategory;
+import java.lang.management.MemoryType;
+import org.junit.jupiter.api.Test;
+
+class JvmMemoryRegistryTest {
+
+    @Test
+    void classifiesKnownYoungCollectors() {
+        assertEquals(GcCategory.YOUNG, classifyCollector("Copy"));
+        assertEquals(GcCategory.YOUNG, classifyCollector("PS Scavenge"));
+        assertEquals(GcCategory.YOUNG, classifyCollector("ParNew"));
+        assertEquals(GcCategory.YOUNG, classifyCollector("G1 Young Generation"));
+        assertEquals(GcCategory.YOUNG, classifyCollector("ZGC Minor Pauses"));
+    }
+
+    @Test
+    void classifiesKnownOldCollectors() {
+        assertEquals(GcCategory.OLD, classifyCollector("MarkSweepCompact"));
+        assertEquals(GcCategory.OLD, classifyCollector("PS MarkSweep"));
+        assertEquals(GcCategory.OLD, classifyCollector("ConcurrentMarkSweep"));
+        assertEquals(GcCategory.OLD, classifyCollector("G1 Old Generation"));
+        assertEquals(GcCategory.OLD, classifyCollector("ZGC Major Pauses"));
+        assertEquals(GcCategory.OLD, classifyCollector("ZGC Pauses"));
+        assertEquals(GcCategory.OLD, classifyCollector("Shenandoah Pauses"));
+    }
+
+    @Test
+    void classifiesKnownConcurrentCollectors() {
+        assertEquals(GcCategory.CONCURRENT, classifyCollector("G1 Concurrent GC"));
+        assertEquals(GcCategory.CONCURRENT, classifyCollector("ZGC Cycles"));
+        assertEquals(GcCategory.CONCURRENT, classifyCollector("ZGC Minor Cycles"));
+        assertEquals(GcCategory.CONCURRENT, classifyCollector("ZGC Major Cycles"));
+        assertEquals(GcCategory.CONCURRENT, classifyCollector("Shenandoah Cycles"));
+    }
+
+    @Test
+    void classifiesUnknownCollectorsByName() {
+        assertEquals(GcCategory.CONCURRENT, classifyCollector("Epsilon Concurrent Marking"));
+        assertEquals(GcCategory.CONCURRENT, classifyCollector("Generational Cycles"));
+        assertEquals(GcCategory.YOUNG, classifyCollector("Nursery Scavenge"));
+        assertEquals(GcCategory.YOUNG, classifyCollector("Minor GC"));
+        assertEquals(GcCategory.OLD, classifyCollector("Global GC"));
+    }
+
+    @Test
+    void classifiesHeapPools() {
+        assertEquals(PoolCategory.EDEN, classifyPool("Eden Space", MemoryType.HEAP));
+        assertEquals(PoolCategory.EDEN, classifyPool("G1 Eden Space", MemoryType.HEAP));
+        assertEquals(PoolCategory.EDEN, classifyPool("ZGC Young Generation", MemoryType.HEAP));
+        assertEquals(PoolCategory.SURVIVOR, classifyPool("PS Survivor Space", MemoryType.HEAP));
+        assertEquals(PoolCategory.SURVIVOR, classifyPool("G1 Survivor Space", MemoryType.HEAP));
+        assertEquals(PoolCategory.OLD, classifyPool("Tenured Gen", MemoryType.HEAP));
+        assertEquals(PoolCategory.OLD, classifyPool("G1 Old Gen", MemoryType.HEAP));
+        assertEquals(PoolCategory.OLD, classifyPool("ZGC Old Generation", MemoryType.HEAP));
+        assertEquals(PoolCategory.OLD, classifyPool("ZHeap", MemoryType.HEAP));
+        assertEquals(PoolCategory.OLD, classifyPool("Shenandoah", MemoryType.HEAP));
+    }
+
+    @Test
+    void classifiesNonHeapPools() {
+        assertEquals(PoolCategory.METASPACE, classifyPool("Metaspace", MemoryType.NON_HEAP));
+        assertEquals(PoolCategory.NON_HEAP,
+            classifyPool("Compressed Class Space", MemoryType.NON_HEAP));
+        assertEquals(PoolCategory.NON_HEAP,
+            classifyPool("CodeHeap 'non-nmethods'", MemoryType.NON_HEAP));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.monitor.annotation.dto.LatencySnapshot;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramHasAnEmptySnapshot() {
+        LatencySnapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMax());
+        assertEquals(0, snapshot.getP99());
+    }
+
+    @Test
+    void percentilesStayWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram(10_000, 5);
+        for (int value = 1; value <= 1000; value++) {
+            histogram.recordValue(value);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(1, snapshot.getMin());
+        assertEquals(1000, snapshot.getMax());
+        assertEquals(500.5, snapshot.getMean(), 1e-9);
+        assertWithinPrecision(500, snapshot.getP50());
+        assertWithinPrecision(900, snapshot.getP90());
+        assertWithinPrecision(990, snapshot.getP99());
+        assertWithinPrecision(999, snapshot.getP999());
+    }
+
+    @Test
+    void negativeValuesCountAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(-10);
+
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    void valuesAboveTheRangeKeepTheirExactMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram(1000, 5);
+        histogram.recordValue(5000);
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(5000, snapshot.getMax());
+        assertTrue(snapshot.getP50() >= 1000);
+    }
+
+    @Test
+    void concurrentRecordingLosesNoValues() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.recordValue(i % 100);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(40_000, histogram.snapshot().getCount());
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        // 5 sub-bucket bits: a bucket is at most 1/32 of its value wide
+        assertTrue(actual >= expected && actual <= expected + expected / 32,
+            "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LogLinearBucketsTest {
+
+    @Test
+    void smallValuesGetOneBucketEach() {
+        LogLinearBuckets buckets = new LogLinearBuckets(1000, 2);
+
+        for (int value = 0; value < 4; value++) {
+            assertEquals(value, buckets.indexOf(value));
+            assertEquals(value, buckets.highestEquivalentValue(value));
+        }
+    }
+
+    @Test
+    void bucketEdgesAreContiguous() {
+        LogLinearBuckets buckets = new LogLinearBuckets(100_000, 3);
+
+        for (int index = 0; index < buckets.bucketCount() - 1; index++) {
+            long highest = buckets.highestEquivalentValue(index);
+            assertEquals(index, buckets.indexOf(highest), "last value of bucket " + index);
+            assertEquals(index + 1, buckets.indexOf(highest + 1), "first value after " + index);
+        }
+    }
+
+    @Test
+    void bucketWidthStaysWithinPrecision() {
+        LogLinearBuckets buckets = new LogLinearBuckets(1_000_000, 4);
+
+        for (int index = 1; index < buckets.bucketCount(); index++) {
+            long lowest = buckets.highestEquivalentValue(index - 1) + 1;
+            long width = buckets.highestEquivalentValue(index) - lowest + 1;
+            assertTrue(width <= Math.max(1, lowest / 16), "width of bucket " + index);
+        }
+    }
+
+    @Test
+    void valuesOutsideTheRangeAreClamped() {
+        LogLinearBuckets buckets = new LogLinearBuckets(1000, 5);
+
+        assertEquals(0, buckets.indexOf(-5));
+        assertEquals(buckets.bucketCount() - 1, buckets.indexOf(1000));
+        assertEquals(buckets.bucketCount() - 1, buckets.indexOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void percentilesFollowTheCumulativeCounts() {
+        LogLinearBuckets buckets = new LogLinearBuckets(1000, 5);
+        long[] counts = new long[buckets.bucketCount()];
+        for (int value = 1; value <= 100; value++) {
+            counts[buckets.indexOf(value)]++;
+        }
+
+        assertEquals(1, buckets.valueAtPercentile(counts, 100, 0.0, 1, 100));
+        assertEquals(50, buckets.valueAtPercentile(counts, 100, 50.0, 1, 100));
+        assertEquals(99, buckets.valueAtPercentile(counts, 100, 99.0, 1, 100));
+        assertEquals(100, buckets.valueAtPercentile(counts, 100, 100.0, 1, 100));
+    }
+
+    @Test
+    void percentilesAreClampedToTheObservedRange() {
+        LogLinearBuckets buckets = new LogLinearBuckets(1000, 2);
+        long[] counts = new long[buckets.bucketCount()];
+        counts[buckets.indexOf(900)] = 10;
+
+        // The bucket of 900 spans more than one value; report the observed maximum instead
+        assertEquals(900, buckets.valueAtPercentile(counts, 10, 50.0, 900, 900));
+    }
+
+    @Test
+    void rejectsInvalidLayouts() {
+        assertThrows(IllegalArgumentException.class, () -> new LogLinearBuckets(1000, 0));
+        assertThrows(IllegalArgumentException.class, () -> new LogLinearBuckets(1000, 17));
+        assertThrows(IllegalArgumentException.class, () -> new LogLinearBuckets(0, 5));
+    }
+}
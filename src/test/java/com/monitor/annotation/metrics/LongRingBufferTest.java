@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class LongRingBufferTest {
+
+    @Test
+    void wrapsAroundKeepingTheMostRecentValues() {
+        LongRingBuffer buffer = new LongRingBuffer(4);
+        for (long value = 100; value < 110; value++) {
+            buffer.add(value);
+        }
+
+        assertEquals(List.of(106L, 107L, 108L, 109L), buffer.toList());
+        assertEquals(10, buffer.totalAdded());
+        assertEquals(4, buffer.capacity());
+    }
+
+    @Test
+    void rangeReadsBySequenceNumber() {
+        LongRingBuffer buffer = new LongRingBuffer(4);
+        for (long value = 0; value < 10; value++) {
+            buffer.add(value * 10);
+        }
+
+        assertEquals(List.of(80L, 90L), buffer.range(8, 10));
+        assertEquals(List.of(60L, 70L, 80L, 90L), buffer.range(0, 10));
+    }
+
+    @Test
+    void incrementalReadsSeeEveryConcurrentValueOnce() throws InterruptedException {
+        int writers = 4;
+        int perWriter = 50_000;
+        LongRingBuffer buffer = new LongRingBuffer(writers * perWriter);
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            long base = (long) w * perWriter;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    buffer.add(base + i);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+
+        // Reads the way the metrics stream does: from the previous end to the current one
+        List<Long> seen = new ArrayList<>();
+        long from = 0;
+        while (threads.stream().anyMatch(Thread::isAlive) || from < buffer.totalAdded()) {
+            long to = buffer.totalAdded();
+            List<Long> values = buffer.range(from, to);
+            assertEquals(to - from, values.size());
+            seen.addAll(values);
+            from = to;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Set<Long> distinct = new HashSet<>(seen);
+        assertEquals(writers * perWriter, seen.size());
+        assertEquals(seen.size(), distinct.size());
+        assertTrue(distinct.contains(0L) && distinct.contains(writers * (long) perWriter - 1));
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new LongRingBuffer(0));
+    }
+}
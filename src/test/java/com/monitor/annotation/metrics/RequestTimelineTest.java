@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RequestTimelineTest {
+
+    private static final String ENDPOINT = "POST /api/orders";
+
+    @Test
+    void phasesAddUpToTheTotal() throws InterruptedException {
+        long received = System.nanoTime();
+        pause();
+        RequestTimeline timeline = new RequestTimeline(received, System.nanoTime());
+        pause();
+        timeline.handlerStarted(ENDPOINT);
+        timeline.bodyReadStarted();
+        pause();
+        timeline.bodyReadFinished();
+        pause();
+        timeline.bodyWriteStarted();
+        pause();
+        timeline.handlerFinished();
+        pause();
+        long chainEnd = System.nanoTime();
+        pause();
+        timeline.completed(chainEnd, System.nanoTime(), 200);
+
+        assertPhasesAddUp(timeline);
+        long pause = TimeUnit.MILLISECONDS.toNanos(1);
+        assertTrue(timeline.parseNanos() >= pause);
+        assertTrue(timeline.filtersNanos() >= 2 * pause);
+        assertTrue(timeline.readNanos() >= pause);
+        assertTrue(timeline.handlerNanos() >= pause);
+        assertTrue(timeline.writeNanos() >= pause);
+        assertTrue(timeline.flushNanos() >= pause);
+    }
+
+    @Test
+    void totalStartsAtThePipelineWhenReceiveTimeIsUnknown() throws InterruptedException {
+        long entered = System.nanoTime();
+        RequestTimeline timeline = new RequestTimeline(-1, entered);
+        timeline.handlerStarted(ENDPOINT);
+        pause();
+        timeline.handlerFinished();
+        long flushed = System.nanoTime();
+        timeline.completed(flushed, flushed, 200);
+
+        assertEquals(0, timeline.parseNanos());
+        assertEquals(flushed - entered, timeline.totalNanos());
+        assertPhasesAddUp(timeline);
+    }
+
+    @Test
+    void handlerWithoutBodiesHasNoConversionTime() throws InterruptedException {
+        RequestTimeline timeline = new RequestTimeline(System.nanoTime(), System.nanoTime());
+        timeline.handlerStarted(ENDPOINT);
+        pause();
+        timeline.handlerFinished();
+        long end = System.nanoTime();
+        timeline.completed(end, end, 204);
+
+        assertEquals(0, timeline.readNanos());
+        assertEquals(0, timeline.writeNanos());
+        assertPhasesAddUp(timeline);
+    }
+
+    @Test
+    void failedHandlerChainEndsAtThePipeline() throws InterruptedException {
+        RequestTimeline timeline = new RequestTimeline(System.nanoTime(), System.nanoTime());
+        timeline.handlerStarted(ENDPOINT);
+        pause();
+        long chainEnd = System.nanoTime();
+        timeline.completed(chainEnd, System.nanoTime(), 500);
+
+        assertTrue(timeline.handlerNanos() > 0);
+        assertEquals(500, timeline.getStatus());
+        assertPhasesAddUp(timeline);
+    }
+
+    @Test
+    void bodyReadsAccumulate() throws InterruptedException {
+        RequestTimeline timeline = new RequestTimeline(-1, System.nanoTime());
+        timeline.handlerStarted(ENDPOINT);
+        timeline.bodyReadStarted();
+        pause();
+        timeline.bodyReadFinished();
+        timeline.bodyReadStarted();
+        pause();
+        timeline.bodyReadFinished();
+        timeline.bodyReadFinished();
+
+        assertTrue(timeline.readNanos() >= TimeUnit.MILLISECONDS.toNanos(2));
+    }
+
+    @Test
+    void laterDispatchesKeepTheFirstEndpoint() {
+        RequestTimeline timeline = new RequestTimeline(-1, System.nanoTime());
+        timeline.handlerStarted(ENDPOINT);
+        timeline.handlerStarted("GET /error");
+
+        assertEquals(ENDPOINT, timeline.getEndpoint());
+    }
+
+    private static void assertPhasesAddUp(RequestTimeline timeline) {
+        assertEquals(timeline.totalNanos(), timeline.parseNanos() + timeline.filtersNanos()
+            + timeline.readNanos() + timeline.handlerNanos() + timeline.writeNanos()
+            + timeline.flushNanos());
+    }
+
+    private static void pause() throws InterruptedException {
+        Thread.sleep(1);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RingBufferTest {
+
+    @Test
+    void keepsElementsInInsertionOrderBeforeWrapping() {
+        RingBuffer<String> buffer = new RingBuffer<>(3);
+        buffer.add("a");
+        buffer.add("b");
+
+        assertEquals(List.of("a", "b"), buffer.toList());
+        assertEquals(2, buffer.totalAdded());
+    }
+
+    @Test
+    void overwritesTheOldestElementsWhenWrapping() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(i);
+        }
+
+        assertEquals(List.of(3, 4, 5), buffer.toList());
+        assertEquals(5, buffer.totalAdded());
+        assertEquals(3, buffer.capacity());
+    }
+
+    @Test
+    void rangeSkipsOverwrittenSequences() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        for (int i = 0; i < 5; i++) {
+            buffer.add(i);  // element == sequence number
+        }
+
+        assertEquals(List.of(2, 3, 4), buffer.range(0, 5));
+        assertEquals(List.of(3, 4), buffer.range(3, 5));
+        assertEquals(List.of(2, 3), buffer.range(1, 4));
+        assertEquals(List.of(4), buffer.range(4, 100));
+        assertTrue(buffer.range(5, 5).isEmpty());
+        assertTrue(buffer.range(4, 3).isEmpty());
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(0));
+    }
+}
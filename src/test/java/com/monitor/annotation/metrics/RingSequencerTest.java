@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class RingSequencerTest {
+
+    @Test
+    void unfinishedWriteHoldsBackLaterOnes() {
+        RingSequencer sequencer = new RingSequencer(4);
+        long first = sequencer.claim();
+        long second = sequencer.claim();
+
+        sequencer.commit(second);
+        assertEquals(0, sequencer.published());
+        assertFalse(sequencer.holds(first));
+        assertTrue(sequencer.holds(second));
+
+        sequencer.commit(first);
+        assertEquals(2, sequencer.published());
+        assertTrue(sequencer.holds(first));
+    }
+
+    @Test
+    void overwrittenSlotNoLongerHoldsItsSequence() {
+        RingSequencer sequencer = new RingSequencer(2);
+        for (int i = 0; i < 3; i++) {
+            sequencer.commit(sequencer.claim());
+        }
+
+        assertFalse(sequencer.holds(0));
+        assertTrue(sequencer.holds(1));
+        assertTrue(sequencer.holds(2));
+        assertEquals(3, sequencer.published());
+    }
+
+    @Test
+    void claimedSlotStillHoldsThePreviousLapUntilCommitted() {
+        RingSequencer sequencer = new RingSequencer(2);
+        sequencer.commit(sequencer.claim());
+        sequencer.commit(sequencer.claim());
+
+        long overwriting = sequencer.claim();   // Reuses the slot of sequence 0
+        assertTrue(sequencer.holds(0));
+        assertFalse(sequencer.holds(overwriting));
+        assertEquals(2, sequencer.published());
+
+        sequencer.commit(overwriting);
+        assertFalse(sequencer.holds(0));
+        assertEquals(3, sequencer.published());
+    }
+
+    @Test
+    void lappedWriterDoesNotMoveTheStampBack() {
+        RingSequencer sequencer = new RingSequencer(2);
+        long lapped = sequencer.claim();
+        sequencer.commit(sequencer.claim());
+        long later = sequencer.claim();   // Same slot as the unfinished write
+        sequencer.commit(later);
+
+        sequencer.commit(lapped);
+        assertTrue(sequencer.holds(later));
+        assertFalse(sequencer.holds(lapped));
+        assertEquals(3, sequencer.published());
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new RingSequencer(0));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.monitor.annotation.dto.WindowStatistics;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RollingWindowStatsTest {
+
+    private static final long SLOT_MILLIS = 15_000;
+    private static final long START = 1_000 * SLOT_MILLIS;  // Aligned to a slot boundary
+
+    private final AtomicLong clock = new AtomicLong(START);
+    private final RollingWindowStats stats = new RollingWindowStats(clock::get);
+
+    @Test
+    void aggregatesCallsOfTheWindow() {
+        stats.record(10, false, false);
+        stats.record(30, true, false);
+        stats.record(20, false, true);
+
+        WindowStatistics window = stats.getStatistics(Duration.ofMinutes(1));
+        assertEquals(3, window.getCount());
+        assertEquals(20.0, window.getMean(), 1e-9);
+        assertEquals(10, window.getMin());
+        assertEquals(30, window.getMax());
+        assertEquals(1, window.getSlowCount());
+        assertEquals(1, window.getErrorCount());
+    }
+
+    @Test
+    void shortWindowsOnlyMergeTheirSlots() {
+        stats.record(100, false, false);
+        clock.addAndGet(2 * 60_000);
+        stats.record(5, false, false);
+
+        assertEquals(1, stats.getStatistics(Duration.ofMinutes(1)).getCount());
+        assertEquals(5, stats.getStatistics(Duration.ofMinutes(1)).getMax());
+        assertEquals(2, stats.getStatistics(Duration.ofMinutes(5)).getCount());
+    }
+
+    @Test
+    void reusedSlotIsClearedForItsNewPeriod() {
+        stats.record(500, true, true);
+        clock.addAndGet(60 * SLOT_MILLIS);  // Back to the same slot, 15 minutes later
+        stats.record(7, false, false);
+
+        WindowStatistics window = stats.getStatistics(Duration.ofMinutes(15));
+        assertEquals(1, window.getCount());
+        assertEquals(7, window.getMin());
+        assertEquals(7, window.getMax());
+        assertEquals(0, window.getSlowCount());
+        assertEquals(0, window.getErrorCount());
+    }
+
+    @Test
+    void staleSlotsAreIgnoredWithoutNewWrites() {
+        stats.record(10, false, false);
+        clock.addAndGet(Duration.ofMinutes(16).toMillis());
+
+        assertEquals(0, stats.getStatistics(Duration.ofMinutes(15)).getCount());
+    }
+
+    @Test
+    void callRateUsesTheElapsedPartOfTheWindow() {
+        clock.addAndGet(5_000);
+        for (int i = 0; i < 10; i++) {
+            stats.record(1, false, false);
+        }
+
+        // Only 5 seconds have passed since the stats were created
+        assertEquals(2.0, stats.getStatistics(Duration.ofMinutes(1)).getCallsPerSecond(), 1e-9);
+
+        clock.set(START + Duration.ofMinutes(10).toMillis() + 5_000);
+        for (int i = 0; i < 100; i++) {
+            stats.record(1, false, false);
+        }
+
+        // Three full slots and 5 seconds of the current one
+        assertEquals(2.0, stats.getStatistics(Duration.ofMinutes(1)).getCallsPerSecond(), 1e-9);
+    }
+}
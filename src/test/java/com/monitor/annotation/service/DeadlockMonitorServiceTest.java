@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.management.ThreadInfo;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class DeadlockMonitorServiceTest {
+
+    private static final long NO_OWNER = -1;
+
+    @Test
+    void findsTheCycleAndLeavesOutThreadsWaitingOnIt() {
+        List<List<ThreadInfo>> cycles = DeadlockMonitorService.findCycles(byId(
+            waiting(1, 2),
+            waiting(2, 1),
+            waiting(3, 1)));
+
+        assertEquals(Set.of(Set.of(1L, 2L)), threadIds(cycles));
+        cycles.forEach(DeadlockMonitorServiceTest::assertWaitForOrder);
+    }
+
+    @Test
+    void splitsIndependentCycles() {
+        List<List<ThreadInfo>> cycles = DeadlockMonitorService.findCycles(byId(
+            waiting(1, 2),
+            waiting(2, 1),
+            waiting(3, 4),
+            waiting(4, 5),
+            waiting(5, 3)));
+
+        assertEquals(Set.of(Set.of(1L, 2L), Set.of(3L, 4L, 5L)), threadIds(cycles));
+        cycles.forEach(DeadlockMonitorServiceTest::assertWaitForOrder);
+    }
+
+    @Test
+    void ignoresChainsEndingAtARunnableOwner() {
+        List<List<ThreadInfo>> cycles = DeadlockMonitorService.findCycles(byId(
+            waiting(1, 2),
+            waiting(2, 3),
+            waiting(3, NO_OWNER),
+            waiting(4, 99)));
+
+        assertTrue(cycles.isEmpty());
+    }
+
+    private static ThreadInfo waiting(long threadId, long lockOwnerId) {
+        ThreadInfo info = mock(ThreadInfo.class);
+        when(info.getThreadId()).thenReturn(threadId);
+        when(info.getLockOwnerId()).thenReturn(lockOwnerId);
+        return info;
+    }
+
+    private static Map<Long, ThreadInfo> byId(ThreadInfo... infos) {
+        Map<Long, ThreadInfo> byId = new HashMap<>();
+        for (ThreadInfo info : infos) {
+            byId.put(info.getThreadId(), info);
+        }
+        return byId;
+    }
+
+    private static Set<Set<Long>> threadIds(List<List<ThreadInfo>> cycles) {
+        return cycles.stream()
+            .map(cycle -> cycle.stream().map(ThreadInfo::getThreadId).collect(Collectors.toSet()))
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Each thread of a cycle waits for a lock held by the next one.
+     */
+    private static void assertWaitForOrder(List<ThreadInfo> cycle) {
+        for (int i = 0; i < cycle.size(); i++) {
+            ThreadInfo next = cycle.get((i + 1) % cycle.size());
+            assertEquals(next.getThreadId(), cycle.get(i).getLockOwnerId());
+        }
+    }
+}
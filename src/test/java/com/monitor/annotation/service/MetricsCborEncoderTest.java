@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.monitor.annotation.dto.MemoryMetrics;
+import com.monitor.annotation.dto.MemoryMetrics.ThreadPoolMetrics;
+import com.monitor.annotation.dto.MetricsStreamMessage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the positional layout written by the encoder against the field lists the browser
+ * decodes it with.
+ */
+class MetricsCborEncoderTest {
+
+    private static final Path CBOR_JS =
+        Path.of("src/main/resources/static/performanceMeasure/js/utils/cbor.js");
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 3, 1, 12, 30, 15);
+
+    private final MetricsCborEncoder encoder = new MetricsCborEncoder();
+    private final CBORMapper reader = new CBORMapper();
+
+    @Test
+    void memoryMetricsFollowTheBrowserFieldOrder() throws IOException {
+        List<String> fields = browserFields("MEMORY_METRICS_FIELDS");
+        Map<String, Number> expected = memoryValues();
+
+        JsonNode metrics = encodeAndRead(sample()).get("metrics");
+
+        assertTrue(metrics.isArray());
+        assertEquals(fields.size(), metrics.size(), "fields missing from cbor.js");
+        for (int i = 0; i < fields.size(); i++) {
+            String field = fields.get(i);
+            if (expected.containsKey(field)) {
+                assertNumber(expected.get(field), metrics.get(i), field);
+            }
+        }
+        assertTrue(metrics.get(fields.indexOf("performanceThreadPool")).isArray());
+        assertTrue(metrics.get(fields.indexOf("threadPools")).isObject());
+    }
+
+    @Test
+    void threadPoolsFollowTheBrowserFieldOrder() throws IOException {
+        List<String> memoryFields = browserFields("MEMORY_METRICS_FIELDS");
+        List<String> fields = browserFields("THREAD_POOL_FIELDS");
+        Map<String, Number> expected = poolValues();
+
+        JsonNode metrics = encodeAndRead(sample()).get("metrics");
+        JsonNode performancePool = metrics.get(memoryFields.indexOf("performanceThreadPool"));
+        JsonNode namedPool = metrics.get(memoryFields.indexOf("threadPools")).get("taskExecutor");
+
+        for (JsonNode pool : List.of(performancePool, namedPool)) {
+            assertTrue(pool.isArray());
+            assertEquals(fields.size(), pool.size(), "fields missing from cbor.js");
+            for (int i = 0; i < fields.size(); i++) {
+                assertNumber(expected.get(fields.get(i)), pool.get(i), fields.get(i));
+            }
+        }
+    }
+
+    @Test
+    void timestampsAreEpochMillisAndNullFieldsAreOmitted() throws IOException {
+        JsonNode message = encodeAndRead(sample());
+
+        assertEquals("DELTA", message.get("type").asText());
+        assertFalse(message.has("testStatus"));
+        assertFalse(message.has("responseTimes"));
+        assertEquals(TIMESTAMP.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+            message.get("metrics").get(0).asLong());
+    }
+
+    private JsonNode encodeAndRead(MemoryMetrics metrics) throws IOException {
+        MetricsStreamMessage message = MetricsStreamMessage.builder()
+            .id("1")
+            .type(MetricsStreamMessage.MessageType.DELTA)
+            .metrics(metrics)
+            .build();
+        return reader.readTree(encoder.encode(message));
+    }
+
+    /**
+     * Every field gets a distinct value so that a shifted position cannot go unnoticed.
+     */
+    private static MemoryMetrics sample() {
+        return MemoryMetrics.builder()
+            .timestamp(TIMESTAMP)
+            .heapUsed(101)
+            .heapMax(102)
+            .youngGenUsed(103)
+            .oldGenUsed(104)
+            .nonHeapUsed(105)
+            .nonHeapCommitted(106)
+            .nonHeapMax(107)
+            .metaspaceUsed(108)
+            .metaspaceCommitted(109)
+            .youngGcCount(110)
+            .oldGcCount(111)
+            .youngGcTime(112)
+            .oldGcTime(113)
+            .threadCount(114)
+            .daemonThreadCount(115)
+            .peakThreadCount(116)
+            .deadlockedThreads(117)
+            .allocationRate(118.5)
+            .concurrentGcCount(119)
+            .concurrentGcTime(120)
+            .performanceThreadPool(pool())
+            .threadPools(Map.of("taskExecutor", pool()))
+            .build();
+    }
+
+    private static ThreadPoolMetrics pool() {
+        return ThreadPoolMetrics.builder()
+            .activeThreads(1)
+            .poolSize(2)
+            .corePoolSize(3)
+            .maxPoolSize(4)
+            .taskCount(5)
+            .completedTaskCount(6)
+            .queueSize(7)
+            .waitingThreads(8)
+            .blockedThreads(9)
+            .runningThreads(10)
+            .build();
+    }
+
+    private static Map<String, Number> memoryValues() {
+        Map<String, Number> values = new LinkedHashMap<>();
+        values.put("timestamp", TIMESTAMP.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        values.put("heapUsed", 101);
+        values.put("heapMax", 102);
+        values.put("youngGenUsed", 103);
+        values.put("oldGenUsed", 104);
+        values.put("nonHeapUsed", 105);
+        values.put("nonHeapCommitted", 106);
+        values.put("nonHeapMax", 107);
+        values.put("metaspaceUsed", 108);
+        values.put("metaspaceCommitted", 109);
+        values.put("youngGcCount", 110);
+        values.put("oldGcCount", 111);
+        values.put("youngGcTime", 112);
+        values.put("oldGcTime", 113);
+        values.put("threadCount", 114);
+        values.put("daemonThreadCount", 115);
+        values.put("peakThreadCount", 116);
+        values.put("deadlockedThreads", 117);
+        values.put("allocationRate", 118.5);
+        values.put("concurrentGcCount", 119);
+        values.put("concurrentGcTime", 120);
+        return values;
+    }
+
+    private static Map<String, Number> poolValues() {
+        Map<String, Number> values = new LinkedHashMap<>();
+        values.put("activeThreads", 1);
+        values.put("poolSize", 2);
+        values.put("corePoolSize", 3);
+        values.put("maxPoolSize", 4);
+        values.put("taskCount", 5);
+        values.put("completedTaskCount", 6);
+        values.put("queueSize", 7);
+        values.put("waitingThreads", 8);
+        values.put("blockedThreads", 9);
+        values.put("runningThreads", 10);
+        return values;
+    }
+
+    private static void assertNumber(Number expected, JsonNode actual, String field) {
+        assertTrue(actual.isNumber(), field + " is not a number: " + actual);
+        assertEquals(expected.doubleValue(), actual.asDouble(), 0.0, field);
+    }
+
+    /**
+     * Reads one of the field name arrays declared in cbor.js.
+     */
+    private static List<String> browserFields(String constant) throws IOException {
+        String script = Files.readString(CBOR_JS, StandardCharsets.UTF_8);
+        Matcher declaration = Pattern
+            .compile("const " + constant + " = \\[(.*?)];", Pattern.DOTALL)
+            .matcher(script);
+        assertTrue(declaration.find(), constant + " not found in " + CBOR_JS);
+
+        List<String> fields = new ArrayList<>();
+        Matcher name = Pattern.compile("'(\\w+)'").matcher(declaration.group(1));
+        while (name.find()) {
+            fields.add(name.group(1));
+        }
+        return fields;
+    }
+}
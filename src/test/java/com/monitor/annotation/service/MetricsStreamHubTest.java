@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025 Seo-Jangwon
+ * Licensed under MIT License
+ */
+
+package com.monitor.annotation.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.monitor.annotation.dto.MemoryMetrics;
+import com.monitor.annotation.dto.TestResult;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * Drives the publisher tick by hand and collects what each WebSocket subscriber is sent. The
+ * fan-out executor runs writes on the calling thread.
+ */
+class MetricsStreamHubTest {
+
+    private static final String TEST_ID = "test-1";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private MetricsStreamHub hub;
+    private Runnable tick;
+
+    @BeforeEach
+    void setUp() {
+        TestResult result = TestResult.builder()
+            .testId(TEST_ID)
+            .status("RUNNING")
+            .startTime(LocalDateTime.now())
+            .build();
+        PerformanceTestService testService = mock(PerformanceTestService.class);
+        when(testService.getTestStatus(TEST_ID)).thenReturn(result);
+        JvmMetricsSampler sampler = mock(JvmMetricsSampler.class);
+        when(sampler.getLatest()).thenAnswer(invocation -> MemoryMetrics.empty());
+
+        TaskScheduler scheduler = mock(TaskScheduler.class);
+        when(scheduler.scheduleWithFixedDelay(any(Runnable.class), any(Duration.class)))
+            .thenAnswer(invocation -> {
+                tick = invocation.getArgument(0);
+                return mock(ScheduledFuture.class);
+            });
+
+        hub = new MetricsStreamHub(testService, sampler, mock(ThreadMonitorService.class),
+            objectMapper, new MetricsCborEncoder(), scheduler, Runnable::run, 1000);
+    }
+
+    @Test
+    void lateSubscriberStartsWithASnapshot() throws IOException {
+        List<JsonNode> first = subscribe(null);
+        for (int i = 0; i < 3; i++) {
+            tick.run();
+        }
+
+        List<JsonNode> late = subscribe(null);
+        tick.run();
+        tick.run();
+
+        assertEquals(List.of("SNAPSHOT", "DELTA", "DELTA", "DELTA", "DELTA"), types(first));
+        assertEquals(List.of("SNAPSHOT", "DELTA"), types(late));
+        JsonNode snapshot = late.get(0);
+        assertTrue(snapshot.has("testStatus"));
+        assertEquals(TEST_ID, snapshot.get("testStatus").get("testId").asText());
+        assertEquals(4, snapshot.get("testStatus").get("memoryMetrics").size());
+    }
+
+    @Test
+    void resumingSubscriberReceivesTheMissedDeltas() throws IOException {
+        List<JsonNode> first = subscribe(null);
+        for (int i = 0; i < 3; i++) {
+            tick.run();
+        }
+        String lastSeen = first.get(1).get("id").asText();
+
+        List<JsonNode> resumed = subscribe(lastSeen);
+        tick.run();
+
+        assertEquals(List.of("DELTA", "DELTA"), types(resumed));
+        assertEquals(first.get(2).get("id").asText(), resumed.get(0).get("id").asText());
+        assertEquals(first.get(3).get("id").asText(), resumed.get(1).get("id").asText());
+        assertFalse(resumed.get(0).has("testStatus"));
+    }
+
+    @Test
+    void unknownResumeTokenFallsBackToASnapshot() throws IOException {
+        subscribe(null);
+        tick.run();
+        tick.run();
+
+        List<JsonNode> resumed = subscribe("999-1");
+        tick.run();
+
+        assertEquals(List.of("SNAPSHOT"), types(resumed));
+    }
+
+    /**
+     * Subscribes a JSON WebSocket session and returns the list its messages are parsed into.
+     */
+    private List<JsonNode> subscribe(String lastEventId) throws IOException {
+        List<JsonNode> received = new ArrayList<>();
+        WebSocketSession session = mock(WebSocketSession.class);
+        doAnswer(invocation -> {
+            TextMessage message = invocation.getArgument(0);
+            received.add(objectMapper.readTree(message.getPayload()));
+            return null;
+        }).when(session).sendMessage(any());
+
+        hub.subscribe(TEST_ID, session, false, lastEventId);
+        assertNotNull(tick);
+        return received;
+    }
+
+    private static List<String> types(List<JsonNode> messages) {
+        List<String> types = new ArrayList<>();
+        messages.forEach(message -> types.add(message.get("type").asText()));
+        return types;
+    }
+}